@@ -0,0 +1,256 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * In-game advisor that recommends the next action with Monte Carlo tree search.
+ *
+ * Every request runs one search tree per worker thread (root parallelization), each
+ * with its own random stream, for a fixed time budget. The trees are open-loop: a
+ * node stands for a sequence of actions, and each iteration draws fresh random
+ * events, so the search averages over the event distribution. With weather regimes,
+ * every iteration starts in the pool's current regime and draws each day's regime
+ * before its event. The root visit counts
+ * are summed across trees and the most visited action is recommended.
+ *
+ * Searches stop cooperatively: workers check the deadline and the request generation
+ * every iteration, so a newer request makes older ones finish at once.
+ */
+public class ActionAdvisor {
+    private static final int PLANNING_DEPTH = 5;     // Days with a tree decision
+    private static final int ROLLOUT_DAYS = 25;      // Days simulated afterwards, doing nothing
+    private static final double EXPLORATION = 0.7;   // UCT exploration constant; rewards are in [0, 1]
+    private static final int WORKERS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(WORKERS, runnable -> {
+        Thread thread = new Thread(runnable, "action-advisor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long budgetNanos;
+    private final AtomicLong generation = new AtomicLong();
+
+    // ==================== INNER CLASS: Advice ====================
+
+    /**
+     * Recommended action and the estimated chance of surviving the lookahead with it.
+     */
+    public static class Advice {
+        public final ColonyAction action;
+        public final double survival;
+        public final int iterations;
+
+        Advice(ColonyAction action, double survival, int iterations) {
+            this.action = action;
+            this.survival = survival;
+            this.iterations = iterations;
+        }
+    }
+
+    // ==================== INNER CLASS: EventSource ====================
+
+    /**
+     * Snapshot of a request's event table, weather model (null if off) and regime,
+     * shared read-only by its search threads.
+     */
+    private static class EventSource {
+        final EventTable table;
+        final WeatherModel weather;
+        final WeatherModel.Regime startRegime;
+
+        EventSource(RandomEvent pool) {
+            this.table = pool.getTable();
+            this.weather = pool.getWeather();
+            this.startRegime = pool.getRegime();
+        }
+
+        WeatherModel.Regime nextRegime(WeatherModel.Regime regime, SplittableRandom random) {
+            return weather != null ? weather.nextRegime(regime, random.nextDouble()) : regime;
+        }
+
+        RandomEvent.Event nextEvent(WeatherModel.Regime regime, SplittableRandom random) {
+            int index = weather != null ? weather.sampleEvent(regime, random.nextDouble())
+                : table.sample(random.nextDouble());
+            return table.getEvent(index);
+        }
+    }
+
+    // ==================== INNER CLASS: Node ====================
+
+    private static class Node {
+        final Node[] children = new Node[ColonyAction.values().length];
+        int visits;
+        double totalReward;
+        int survived;
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    public ActionAdvisor(long budgetMillis) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Starts a search from the given state and hands the advice to onReady on the
+     * Event Dispatch Thread. Any search still running for an older request is cut short,
+     * and its result is dropped.
+     *
+     * @param pool event distribution to search over, with its weather and current regime
+     */
+    public void requestAdvice(ColonySimulator state, RandomEvent pool, ColonyAction.Effects effects,
+                              Consumer<Advice> onReady) {
+        long myGeneration = generation.incrementAndGet();
+        EventSource source = new EventSource(pool);
+        ColonySimulator root = new ColonySimulator(state);
+        long deadline = System.nanoTime() + budgetNanos;
+        long seed = System.nanoTime();
+
+        List<CompletableFuture<Node>> trees = new ArrayList<>();
+        for (int w = 0; w < WORKERS; w++) {
+            long treeSeed = seed + w;
+            trees.add(CompletableFuture.supplyAsync(
+                () -> search(root, source, effects, deadline, myGeneration, treeSeed), EXECUTOR));
+        }
+        // Merge once every tree is done, without blocking a worker thread; a failed tree fails them all
+        CompletableFuture.allOf(trees.toArray(new CompletableFuture<?>[0])).whenComplete((done, error) -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                System.err.println("Advisor search failed: " + cause);
+                return;
+            }
+            Advice advice = merge(trees);
+            if (advice != null && generation.get() == myGeneration) {
+                SwingUtilities.invokeLater(() -> {
+                    if (generation.get() == myGeneration) onReady.accept(advice);
+                });
+            }
+        });
+    }
+
+    /**
+     * Drops any pending advice, e.g. when the game is reset or fast-forwarding.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    // ==================== SEARCH ====================
+
+    private Node search(ColonySimulator root, EventSource source, ColonyAction.Effects effects, long deadline,
+                        long myGeneration, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Node tree = new Node();
+        while (System.nanoTime() < deadline && generation.get() == myGeneration) {
+            runIteration(tree, new ColonySimulator(root), source, effects, random);
+        }
+        return tree;
+    }
+
+    /**
+     * Selection and expansion down to PLANNING_DEPTH, then a rollout, then backup.
+     */
+    private void runIteration(Node tree, ColonySimulator sim, EventSource source, ColonyAction.Effects effects,
+                              SplittableRandom random) {
+        ColonyAction[] actions = ColonyAction.values();
+        Node[] path = new Node[PLANNING_DEPTH + 1];
+        path[0] = tree;
+        int depth = 0;
+        Node node = tree;
+        WeatherModel.Regime regime = source.startRegime;
+
+        while (depth < PLANNING_DEPTH && !sim.isExtinct()) {
+            int choice = select(node, random);
+            if (node.children[choice] == null) {
+                node.children[choice] = new Node();
+            }
+            boolean expanded = node.children[choice].visits == 0;
+            sim.apply(actions[choice], effects);
+            regime = source.nextRegime(regime, random);
+            sim.step(source.nextEvent(regime, random));
+            node = node.children[choice];
+            path[++depth] = node;
+            if (expanded) break;
+        }
+
+        for (int day = 0; day < ROLLOUT_DAYS && !sim.isExtinct(); day++) {
+            regime = source.nextRegime(regime, random);
+            sim.step(source.nextEvent(regime, random));
+        }
+
+        double reward = reward(sim);
+        boolean alive = !sim.isExtinct();
+        for (int i = 0; i <= depth; i++) {
+            path[i].visits++;
+            path[i].totalReward += reward;
+            if (alive) path[i].survived++;
+        }
+    }
+
+    /**
+     * UCT choice; unvisited actions are tried first, in random order.
+     */
+    private static int select(Node node, SplittableRandom random) {
+        int count = node.children.length;
+        int offset = random.nextInt(count);
+        for (int k = 0; k < count; k++) {
+            int i = (offset + k) % count;
+            if (node.children[i] == null || node.children[i].visits == 0) return i;
+        }
+        double logVisits = Math.log(node.visits);
+        int best = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            Node child = node.children[i];
+            double score = child.totalReward / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Survival matters most; among surviving runs, a population closer to K is better.
+     */
+    private static double reward(ColonySimulator sim) {
+        if (sim.isExtinct()) return 0;
+        return 0.8 + 0.2 * Math.min(1, sim.getPopulation() / sim.getK());
+    }
+
+    private static Advice merge(List<CompletableFuture<Node>> trees) {
+        int count = ColonyAction.values().length;
+        int[] visits = new int[count];
+        int[] survived = new int[count];
+        int iterations = 0;
+        for (CompletableFuture<Node> future : trees) {
+            Node tree = future.join();
+            iterations += tree.visits;
+            for (int i = 0; i < count; i++) {
+                if (tree.children[i] != null) {
+                    visits[i] += tree.children[i].visits;
+                    survived[i] += tree.children[i].survived;
+                }
+            }
+        }
+
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (visits[i] > visits[best]) best = i;
+        }
+        if (visits[best] == 0) return null;
+        return new Advice(ColonyAction.values()[best], (double) survived[best] / visits[best], iterations);
+    }
+}
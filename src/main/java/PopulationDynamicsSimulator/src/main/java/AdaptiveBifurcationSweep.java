@@ -0,0 +1,163 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bifurcation sweep over r with adaptive resolution. It starts from a coarse grid and
+ * keeps halving an interval only while the attractor changes across it: a different
+ * period, chaos at either end, or cycle points that stray from a straight line
+ * between the ends. Flat fixed-point stretches cost a few samples, while period
+ * doublings are resolved more finely than the old fixed 0.005 grid. Where K is
+ * provably the attractor (see FixedPointAnalysis) no iteration to convergence is needed.
+ */
+public class AdaptiveBifurcationSweep {
+    private static final double R_START = 0.001;
+    private static final double R_END = 3.0;
+    private static final double COARSE_STEP = 0.04;
+    private static final double CHAOS_STEP = 0.005;    // Same density as the fixed grid inside chaotic bands
+    private static final double MIN_STEP = 0.00125;    // Finest spacing around bifurcation points
+    private static final double SHAPE_TOLERANCE = 0.005;  // Fraction of K that counts as a visible difference
+
+    private static final int WARMUP = 500;
+    private static final int SAMPLES = 100;
+    private static final double START_X = 50.0;
+
+    // Cost of the fixed 0.005 grid, for comparison
+    public static final int FIXED_GRID_R_VALUES = (int) Math.floor((R_END - R_START) / 0.005) + 1;
+    public static final long FIXED_GRID_ITERATIONS = (long) FIXED_GRID_R_VALUES * (WARMUP + SAMPLES);
+
+    private final double K;
+    private final double A;
+    private final AttractorDetector detector;
+    private final List<Sample> samples;
+    private long iterations;
+
+    // ==================== INNER CLASS: Sample ====================
+
+    /**
+     * Attractor found at one r: its period (0 when unresolved) and its points, sorted.
+     */
+    private static class Sample {
+        final double r;
+        final int period;
+        final double[] points;
+
+        Sample(double r, int period, double[] points) {
+            this.r = r;
+            this.period = period;
+            this.points = points;
+        }
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    public AdaptiveBifurcationSweep(double K, double A) {
+        this.K = K;
+        this.A = A;
+        this.detector = new AttractorDetector(16, 1e-9);
+        this.samples = new ArrayList<>();
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Runs the sweep and returns the bifurcation points ordered by r.
+     */
+    public List<AntColonyGame.Point2D> run() {
+        samples.clear();
+        iterations = 0;
+
+        Sample previous = evaluate(R_START);
+        for (double r = R_START + COARSE_STEP; r < R_END + COARSE_STEP; r += COARSE_STEP) {
+            Sample next = evaluate(Math.min(r, R_END));
+            refine(previous, next);
+            previous = next;
+        }
+
+        samples.sort(Comparator.comparingDouble(s -> s.r));
+        List<AntColonyGame.Point2D> points = new ArrayList<>();
+        for (Sample s : samples) {
+            for (double y : s.points) {
+                points.add(new AntColonyGame.Point2D(s.r, y));
+            }
+        }
+        return points;
+    }
+
+    /** Number of r values evaluated by the last run. */
+    public int getRValuesComputed() { return samples.size(); }
+
+    /** Number of map iterations spent by the last run. */
+    public long getIterations() { return iterations; }
+
+    // ==================== REFINEMENT ====================
+
+    private void refine(Sample a, Sample b) {
+        double width = b.r - a.r;
+        if (width <= MIN_STEP) return;
+
+        boolean chaotic = a.period == 0 || b.period == 0;
+        if (chaotic && width <= CHAOS_STEP) return;
+
+        Sample mid = evaluate((a.r + b.r) / 2);
+        if (!chaotic && mid.period == a.period && mid.period == b.period && isLinear(a, mid, b)) {
+            return;
+        }
+        refine(a, mid);
+        refine(mid, b);
+    }
+
+    /**
+     * True when the midpoint's cycle points lie close to the average of the ends,
+     * i.e. the branches are straight enough that drawing them from the ends is enough.
+     */
+    private boolean isLinear(Sample a, Sample mid, Sample b) {
+        double tolerance = SHAPE_TOLERANCE * Math.max(K, 1);
+        for (int i = 0; i < mid.points.length; i++) {
+            if (Math.abs(mid.points[i] - (a.points[i] + b.points[i]) / 2) > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Sample evaluate(double r) {
+        int steps = FixedPointAnalysis.stepsToCapacity(START_X, r, K, A, WARMUP);
+        if (steps >= 0) {
+            // Provably converges to K, so skip iterating until the detector sees it
+            iterations += steps;
+            Sample sample = new Sample(r, 1, new double[] {K});
+            samples.add(sample);
+            return sample;
+        }
+
+        detector.detect(START_X, r, K, A, WARMUP, 0, Double.MAX_VALUE);
+        iterations += detector.getIterations();
+
+        Sample sample;
+        if (detector.isResolved()) {
+            double[] points = new double[detector.getPeriod()];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = detector.getCyclePoint(i);
+            }
+            Arrays.sort(points);
+            // Extinction counts as its own "period" so it never merges with a fixed point
+            sample = new Sample(r, detector.getType() == AttractorDetector.EXTINCT ? -1 : points.length, points);
+        } else {
+            double[] points = new double[SAMPLES];
+            double x = detector.getLastX();
+            for (int i = 0; i < SAMPLES; i++) {
+                x = AntColonyGame.populationModel(x, r, K, A);
+                if (x < 0) x = 0;
+                points[i] = x;
+            }
+            iterations += SAMPLES;
+            sample = new Sample(r, 0, points);
+        }
+        samples.add(sample);
+        return sample;
+    }
+}
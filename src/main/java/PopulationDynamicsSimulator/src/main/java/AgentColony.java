@@ -0,0 +1,202 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Individual-based colony: every ant has an age, a role and an energy level,
+ * stored as parallel primitive arrays (one slot per ant) rather than as objects.
+ *
+ * Births and deaths follow the same r, K and A as the map. The map's per-capita
+ * change g = r (1 - x/K)(x/A - 1) is split into a birth rate and a death rate with
+ * birth - death = g, so the expected population follows the map. Births are one
+ * Poisson draw per chunk, since the birth rate can exceed one per ant. Who dies is
+ * not uniform: old and underfed ants carry a higher hazard, scaled so the
+ * colony-wide death rate is still the target one.
+ *
+ * A day runs in parallel chunks. Each chunk has its own random stream derived
+ * from (seed, day, chunk), so results do not depend on thread scheduling. Dead
+ * ants are compacted out and newborns are appended at the end.
+ */
+public class AgentColony {
+    // Roles
+    public static final byte NURSE = 0;
+    public static final byte FORAGER = 1;
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int MAX_AGENTS = 1 << 24;       // Births beyond this are dropped (overshoot can ask for billions)
+    private static final double BASE_MORTALITY = 0.02;   // Daily death rate even in good times
+    private static final int MATURATION_AGE = 15;        // Nurses become foragers at this age (days)
+    private static final float FORAGE_GAIN = 0.12f;
+    private static final float UPKEEP = 0.06f;
+    private static final float NEWBORN_ENERGY = 0.8f;
+
+    private final double antsPerUnit;    // Ants per unit of the model's population x
+    private final long seed;
+
+    private int size;
+    private int[] age = new int[0];
+    private byte[] role = new byte[0];
+    private float[] energy = new float[0];
+    private int day;
+
+    /**
+     * @param population  starting population in model units
+     * @param antsPerUnit how many individual ants one unit of x stands for
+     */
+    public AgentColony(double population, double antsPerUnit, long seed) {
+        this.antsPerUnit = antsPerUnit;
+        this.seed = seed;
+        int count = (int) Math.min(MAX_AGENTS, Math.round(population * antsPerUnit));
+        ensureCapacity(count);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < count; i++) {
+            age[i] = random.nextInt(2 * MATURATION_AGE);
+            role[i] = age[i] < MATURATION_AGE ? NURSE : FORAGER;
+            energy[i] = 0.5f + 0.5f * (float) random.nextDouble();
+        }
+        size = count;
+    }
+
+    public synchronized int size() { return size; }
+
+    /** Population in model units, comparable with x. */
+    public synchronized double getPopulation() { return size / antsPerUnit; }
+
+    // ==================== DAILY UPDATE ====================
+
+    /**
+     * Advances one day with the given parameters. populationMultiplier is the day's
+     * event effect on the population (1 for most events), applied as a survival
+     * chance before births and deaths, just like the map applies it before iterating.
+     */
+    public synchronized void step(double r, double K, double A, double populationMultiplier) {
+        if (size == 0) return;
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        long daySeed = seed * 0x9E3779B97F4A7C15L + day;
+
+        double x = size * populationMultiplier / antsPerUnit;
+        double growth = r * (1 - x / K) * (x / A - 1);
+        double deathRate = Math.min(1, BASE_MORTALITY + Math.max(0, -growth));
+        double birthRate = BASE_MORTALITY + Math.max(0, growth);
+        float crowding = (float) Math.max(0, 1 - x / K);
+
+        // Pass 1: age, roles and energy; sum of hazards for the death-rate scaling
+        double[] hazardSums = new double[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> hazardSums[c] = ageChunk(c, crowding));
+        double totalHazard = 0;
+        for (double sum : hazardSums) totalHazard += sum;
+        // When the map says everyone dies (overshoot past zero), hazards no longer matter
+        double hazardScale = deathRate >= 1 ? Double.POSITIVE_INFINITY
+            : totalHazard > 0 ? deathRate * size / totalHazard : 0;
+
+        // Pass 2: event survival, births and deaths; each chunk compacts its survivors to its start
+        int[] survivors = new int[chunks];
+        long[] births = new long[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            SplittableRandom random = new SplittableRandom(daySeed ^ ((long) c << 32));
+            int from = c * CHUNK_SIZE;
+            int to = Math.min(size, from + CHUNK_SIZE);
+            int write = from;
+            int parents = 0;
+            for (int i = from; i < to; i++) {
+                if (random.nextDouble() >= populationMultiplier) continue;
+                parents++;
+                if (random.nextDouble() < hazardScale * hazard(i)) continue;
+                age[write] = age[i];
+                role[write] = role[i];
+                energy[write] = energy[i];
+                write++;
+            }
+            survivors[c] = write - from;
+            // One draw for the chunk; the rate can exceed one birth per ant during fast growth
+            births[c] = FastSamplers.poisson(birthRate * parents, random);
+        });
+
+        // Close the gaps between chunks, then append the newborns
+        int alive = survivors[0];
+        for (int c = 1; c < chunks; c++) {
+            int from = c * CHUNK_SIZE;
+            System.arraycopy(age, from, age, alive, survivors[c]);
+            System.arraycopy(role, from, role, alive, survivors[c]);
+            System.arraycopy(energy, from, energy, alive, survivors[c]);
+            alive += survivors[c];
+        }
+        long totalBirths = 0;
+        for (long b : births) totalBirths += b;
+        int newSize = (int) Math.min(MAX_AGENTS, alive + totalBirths);
+        ensureCapacity(newSize);
+        Arrays.fill(age, alive, newSize, 0);
+        Arrays.fill(role, alive, newSize, NURSE);
+        Arrays.fill(energy, alive, newSize, NEWBORN_ENERGY);
+        size = newSize;
+        day++;
+    }
+
+    /**
+     * Ages one chunk, moves mature nurses to foraging and updates energy: foragers
+     * bring food in when there is room to grow, everyone pays upkeep, and nurses are
+     * fed from the stores. Returns the chunk's total hazard.
+     */
+    private double ageChunk(int chunk, float crowding) {
+        int from = chunk * CHUNK_SIZE;
+        int to = Math.min(size, from + CHUNK_SIZE);
+        double hazardSum = 0;
+        for (int i = from; i < to; i++) {
+            age[i]++;
+            if (role[i] == NURSE && age[i] >= MATURATION_AGE) {
+                role[i] = FORAGER;
+            }
+            float e = energy[i] - UPKEEP;
+            e += role[i] == FORAGER ? FORAGE_GAIN * crowding + UPKEEP * 0.5f : UPKEEP * crowding;
+            energy[i] = Math.max(0f, Math.min(1f, e));
+            hazardSum += hazard(i);
+        }
+        return hazardSum;
+    }
+
+    /** Relative chance of dying today: grows with age and with hunger. */
+    private double hazard(int i) {
+        return (1 + age[i] / 60.0) * (1.5 - energy[i]);
+    }
+
+    // ==================== OTHER CHANGES ====================
+
+    /**
+     * Keeps each ant with the given probability, e.g. 0.5 for a cull.
+     */
+    public synchronized void thin(double keepProbability, long thinSeed) {
+        SplittableRandom random = new SplittableRandom(thinSeed);
+        int write = 0;
+        for (int i = 0; i < size; i++) {
+            if (random.nextDouble() < keepProbability) {
+                age[write] = age[i];
+                role[write] = role[i];
+                energy[write] = energy[i];
+                write++;
+            }
+        }
+        size = write;
+    }
+
+    /**
+     * Fills roles with the roles of evenly spaced ants, for the renderer.
+     * Returns how many entries were written.
+     */
+    public synchronized int sampleRoles(byte[] roles) {
+        int count = Math.min(roles.length, size);
+        for (int k = 0; k < count; k++) {
+            roles[k] = role[(int) ((long) k * size / count)];
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= age.length) return;
+        int capacity = Math.max(needed, (int) Math.min(MAX_AGENTS, age.length * 2L));
+        age = Arrays.copyOf(age, capacity);
+        role = Arrays.copyOf(role, capacity);
+        energy = Arrays.copyOf(energy, capacity);
+    }
+}
@@ -0,0 +1,225 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.stream.IntStream;
+
+/**
+ * Adaptive Dormand-Prince 5(4) integrator for the continuous Allee model
+ * dx/dt = r x (1 - x/K)(x/A - 1), the ODE the discrete map is the Euler step of.
+ *
+ * The model is scalar, so the stages and the dense-output coefficients are plain
+ * fields and the step loop allocates nothing. Steps use the first-same-as-last
+ * property (six derivative evaluations per accepted step), and the last step's
+ * dense output gives fifth-order accurate values anywhere inside it, so sampling
+ * a trajectory never forces extra steps.
+ *
+ * Not thread-safe: use one instance per thread (see integrateEnsemble).
+ */
+public class AlleeOdeIntegrator {
+    // Dormand-Prince tableau (the ODE is autonomous, so the stage times are not needed)
+    private static final double A21 = 1.0 / 5;
+    private static final double A31 = 3.0 / 40, A32 = 9.0 / 40;
+    private static final double A41 = 44.0 / 45, A42 = -56.0 / 15, A43 = 32.0 / 9;
+    private static final double A51 = 19372.0 / 6561, A52 = -25360.0 / 2187, A53 = 64448.0 / 6561, A54 = -212.0 / 729;
+    private static final double A61 = 9017.0 / 3168, A62 = -355.0 / 33, A63 = 46732.0 / 5247, A64 = 49.0 / 176,
+        A65 = -5103.0 / 18656;
+    private static final double A71 = 35.0 / 384, A73 = 500.0 / 1113, A74 = 125.0 / 192, A75 = -2187.0 / 6784,
+        A76 = 11.0 / 84;
+    // Difference between the 5th and 4th order weights
+    private static final double E1 = 71.0 / 57600, E3 = -71.0 / 16695, E4 = 71.0 / 1920, E5 = -17253.0 / 339200,
+        E6 = 22.0 / 525, E7 = -1.0 / 40;
+    // Dense output
+    private static final double D1 = -12715105075.0 / 11282082432.0, D3 = 87487479700.0 / 32700410799.0,
+        D4 = -10690763975.0 / 1880347072.0, D5 = 701980252875.0 / 199316789632.0,
+        D6 = -1453857185.0 / 822651844.0, D7 = 69997945.0 / 29380423.0;
+
+    private static final double SAFETY = 0.9;
+    private static final double MIN_FACTOR = 0.2;
+    private static final double MAX_FACTOR = 10.0;
+
+    private static final ThreadLocal<AlleeOdeIntegrator> ENSEMBLE_INTEGRATOR =
+        ThreadLocal.withInitial(() -> new AlleeOdeIntegrator(1e-8, 1e-10));
+
+    private final double relativeTolerance;
+    private final double absoluteTolerance;
+    private double r, K, A;
+
+    // Current state and the step size to try next
+    private double t;
+    private double x;
+    private double h;
+    private double k1;   // dx/dt at (t, x), reused from the previous step's last stage
+
+    // Last accepted step, for dense output
+    private double stepStart, stepSize;
+    private double cont1, cont2, cont3, cont4, cont5;
+
+    private long acceptedSteps;
+    private long rejectedSteps;
+
+    public AlleeOdeIntegrator(double relativeTolerance, double absoluteTolerance) {
+        this.relativeTolerance = relativeTolerance;
+        this.absoluteTolerance = absoluteTolerance;
+    }
+
+    public void setParameters(double r, double K, double A) {
+        this.r = r;
+        this.K = K;
+        this.A = A;
+    }
+
+    // Getters
+    public double getTime() { return t; }
+    public double getPopulation() { return x; }
+    public long getAcceptedSteps() { return acceptedSteps; }
+    public long getRejectedSteps() { return rejectedSteps; }
+
+    private double derivative(double xv) {
+        return r * xv * (1 - xv / K) * (xv / A - 1);
+    }
+
+    // ==================== INTEGRATION ====================
+
+    /**
+     * Starts a new trajectory at (t0, x0). Step counters are kept across trajectories.
+     */
+    public void reset(double t0, double x0) {
+        t = t0;
+        x = x0;
+        k1 = derivative(x0);
+        h = 0;
+        stepStart = t0;
+        stepSize = 0;
+        cont1 = x0;
+        cont2 = cont3 = cont4 = cont5 = 0;
+    }
+
+    /**
+     * Integrates from (t0, x0) to t1 and returns x(t1).
+     */
+    public double integrate(double x0, double t0, double t1) {
+        reset(t0, x0);
+        advanceTo(t1);
+        return x;
+    }
+
+    /**
+     * Continues the current trajectory up to time tEnd (> the current time), landing
+     * on it exactly.
+     */
+    public void advanceTo(double tEnd) {
+        if (h == 0) h = initialStep(tEnd - t);
+        while (t < tEnd) {
+            double step = Math.min(h, tEnd - t);
+            if (step <= Math.ulp(t)) {
+                t = tEnd;
+                break;
+            }
+            double next = attemptStep(step);
+            // A step cut short to land on tEnd says little about the next one
+            if (t < tEnd || step == h) h = next;
+        }
+    }
+
+    /**
+     * Value at time s inside the last accepted step, from the dense output.
+     */
+    public double interpolate(double s) {
+        if (stepSize == 0) return cont1;
+        double theta = (s - stepStart) / stepSize;
+        double theta1 = 1 - theta;
+        return cont1 + theta * (cont2 + theta1 * (cont3 + theta * (cont4 + theta1 * cont5)));
+    }
+
+    /**
+     * Integrates from (t0, x0) and writes x at each of the increasing times into out,
+     * using dense output between steps.
+     */
+    public void sample(double x0, double t0, double[] times, double[] out) {
+        reset(t0, x0);
+        for (int i = 0; i < times.length; i++) {
+            double target = times[i];
+            // Step just far enough that the target falls inside the last step
+            if (target > t) {
+                if (h == 0) h = initialStep(times[times.length - 1] - t);
+                while (t < target) {
+                    h = attemptStep(h);
+                }
+            }
+            out[i] = target == t ? x : interpolate(target);
+        }
+    }
+
+    /**
+     * Tries one step of size step. On success the state moves forward and the
+     * dense output is updated. Returns the step size to try next. A step that has
+     * shrunk to rounding level is accepted regardless, so the loop always ends.
+     */
+    private double attemptStep(double step) {
+        while (true) {
+            double k2 = derivative(x + step * A21 * k1);
+            double k3 = derivative(x + step * (A31 * k1 + A32 * k2));
+            double k4 = derivative(x + step * (A41 * k1 + A42 * k2 + A43 * k3));
+            double k5 = derivative(x + step * (A51 * k1 + A52 * k2 + A53 * k3 + A54 * k4));
+            double k6 = derivative(x + step * (A61 * k1 + A62 * k2 + A63 * k3 + A64 * k4 + A65 * k5));
+            double xNew = x + step * (A71 * k1 + A73 * k3 + A74 * k4 + A75 * k5 + A76 * k6);
+            double k7 = derivative(xNew);
+
+            double error = step * (E1 * k1 + E3 * k3 + E4 * k4 + E5 * k5 + E6 * k6 + E7 * k7);
+            double scale = absoluteTolerance + relativeTolerance * Math.max(Math.abs(x), Math.abs(xNew));
+            double errorNorm = Math.abs(error) / scale;
+
+            if (errorNorm <= 1 || step <= 16 * Math.ulp(t)) {
+                double difference = xNew - x;
+                double bspl = step * k1 - difference;
+                cont1 = x;
+                cont2 = difference;
+                cont3 = bspl;
+                cont4 = difference - step * k7 - bspl;
+                cont5 = step * (D1 * k1 + D3 * k3 + D4 * k4 + D5 * k5 + D6 * k6 + D7 * k7);
+                stepStart = t;
+                stepSize = step;
+
+                t += step;
+                x = xNew;
+                k1 = k7;
+                acceptedSteps++;
+
+                double factor = errorNorm == 0 ? MAX_FACTOR
+                    : Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, SAFETY * Math.pow(errorNorm, -0.2)));
+                return step * factor;
+            }
+
+            rejectedSteps++;
+            double factor = Double.isFinite(errorNorm)
+                ? Math.max(MIN_FACTOR, SAFETY * Math.pow(errorNorm, -0.2))
+                : MIN_FACTOR;
+            step *= Math.min(1, factor);
+        }
+    }
+
+    /**
+     * Starting step from the size of the derivative, as in Hairer's DOPRI5 but without
+     * the extra trial evaluation: one percent of the time it takes x to change by its
+     * own magnitude, capped at the interval.
+     */
+    private double initialStep(double span) {
+        double magnitude = absoluteTolerance + relativeTolerance * Math.abs(x);
+        double rate = Math.abs(k1);
+        double guess = rate < 1e-12 ? span : 0.01 * Math.max(Math.abs(x), magnitude) / rate;
+        return Math.max(Math.min(guess, span), 1e-6 * Math.min(1, span));
+    }
+
+    // ==================== ENSEMBLES ====================
+
+    /**
+     * Integrates every starting population in x0 for the given duration in parallel,
+     * one reusable integrator per worker thread, writing x(duration) into out.
+     */
+    public static void integrateEnsemble(double[] x0, double r, double K, double A, double duration, double[] out) {
+        IntStream.range(0, x0.length).parallel().forEach(i -> {
+            AlleeOdeIntegrator integrator = ENSEMBLE_INTEGRATOR.get();
+            integrator.setParameters(r, K, A);
+            out[i] = integrator.integrate(x0[i], 0, duration);
+        });
+    }
+}
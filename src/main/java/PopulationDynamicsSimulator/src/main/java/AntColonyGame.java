@@ -1,15 +1,50 @@
 package PopulationDynamicsSimulator.src.main.java;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+import PopulationDynamicsSimulator.src.main.java.GraphUpdateScheduler.Input;
 
 /**
  * Core game logic for the Ant Colony simulation using the Allee effect model.
  */
 public class AntColonyGame {
+    // Population below which the colony counts as extinct
+    public static final double EXTINCTION_THRESHOLD = 0.1;
+    
+    // Attractor detection used to cut the sweeps short
+    private static final int MAX_DETECTED_PERIOD = 16;
+    private static final double ATTRACTOR_TOLERANCE = 1e-9;
+    
+    // Metapopulation lattice: cells per side, daily migration fraction, spread of local parameters
+    private static final int METAPOPULATION_SIZE = 512;
+    private static final double METAPOPULATION_MIGRATION = 0.05;
+    private static final double METAPOPULATION_HETEROGENEITY = 0.2;
+    
+    // Individual ants simulated per unit of population in the agent-based model
+    private static final double AGENTS_PER_UNIT = 1000;
+    
+    // How many days late the delayed variant feels crowding
+    private static final int FOOD_DELAY_DAYS = 1;
+    
+    // Error tolerances of the continuous-time variant's integrator
+    private static final double ODE_RELATIVE_TOLERANCE = 1e-8;
+    private static final double ODE_ABSOLUTE_TOLERANCE = 1e-10;
+    
+    // Fast-forward progress is published to the GUI at most this often (~30 per second)
+    private static final long FAST_FORWARD_PUBLISH_NANOS = 1_000_000_000L / 30;
+    private static final int FAST_FORWARD_BLOCK_DAYS = 256;
+    
     // Population model parameters
     private double x;  // Current population (normalized)
     private double r;  // Growth rate
@@ -23,6 +58,11 @@ public class AntColonyGame {
     private double buildChambersAMultiplier = 0.80;
     private double destroyChambersKMultiplier = 0.70;
     private double destroyChambersAMultiplier = 1.15;
+    
+    // Technology button effect parameters
+    private double nannyAntsKFraction = 0.05;       // A grows by this fraction of K
+    private double cullPopulationMultiplier = 0.5;
+    private double breedingFrenzyRMultiplier = 2.5;
 
     // Initial values
     private double x_initial = 5.0;
@@ -32,14 +72,37 @@ public class AntColonyGame {
     
     // History tracking
     private List<Double> populationHistory;
+    private List<Point2D> historyPoints;  // Graph points, appended in step with populationHistory
     private int currentDay;
     
-    // Random event generator
+    // Random event generator, with weather regimes unless they are switched off
     private RandomEvent randomEvent;
+    private final WeatherModel weather = new WeatherModel(EventTable.getDefault());
+    private boolean weatherEnabled = true;
     
     // GUI reference
     private GameGUI gui;
     
+    // Recomputes only the graphs whose inputs changed, at most once per frame
+    private GraphUpdateScheduler graphScheduler;
+    
+    // Sliding power spectrum of the recent history, for cycle detection
+    private SpectrumAnalyzer spectrum = new SpectrumAnalyzer();
+    
+    // Background worker while a fast-forward run is in progress
+    private FastForwardWorker fastForwardWorker;
+    
+    // Lattice of colonies that shares the daily events; null unless the mode is on
+    private MetapopulationEngine metapopulation;
+    
+    // Model driving the population, with the extra state some variants need
+    private ModelVariant modelVariant = ModelVariant.MAP;
+    private AgentColony agentColony;        // AGENT_BASED only
+    private DemographicModel demography;    // DEMOGRAPHIC only
+    private AlleeOdeIntegrator integrator;  // CONTINUOUS only
+    private StageStructuredColony stages;   // STAGE_STRUCTURED only
+    private DelayAlleeMap delayMap;         // DELAYED only
+    
     public AntColonyGame() {
         x = x_initial;
         r = r_initial;
@@ -47,13 +110,32 @@ public class AntColonyGame {
         A = A_initial;
         populationHistory = new ArrayList<>();
         populationHistory.add(x);
+        historyPoints = new ArrayList<>();
+        historyPoints.add(new Point2D(0, x));
         currentDay = 0;
-        randomEvent = new RandomEvent();
+        randomEvent = createRandomEvent();
+        
+        graphScheduler = new GraphUpdateScheduler();
+        graphScheduler.register("history", EnumSet.of(Input.HISTORY), this::updateHistoryGraph);
+        graphScheduler.register("projection", 
+            EnumSet.of(Input.POPULATION, Input.DAY, Input.GROWTH_RATE, Input.CAPACITY, Input.THRESHOLD), 
+            this::updateProjectionGraph);
+        // The sweeps scan r themselves, so they only depend on K and A
+        graphScheduler.register("lyapunov", EnumSet.of(Input.CAPACITY, Input.THRESHOLD, Input.MODEL),
+            this::updateLyapunovGraph);
+        graphScheduler.register("bifurcation", EnumSet.of(Input.CAPACITY, Input.THRESHOLD, Input.MODEL),
+            this::updateBifurcationGraph);
+        graphScheduler.register("cobweb",
+            EnumSet.of(Input.HISTORY, Input.POPULATION, Input.GROWTH_RATE, Input.CAPACITY, Input.THRESHOLD),
+            this::updateCobwebGraph);
+        graphScheduler.register("spectrum", EnumSet.of(Input.HISTORY), this::updateSpectrumGraph);
     }
     
     public void setGUI(GameGUI gui) {
         this.gui = gui;
-        updateAllGraphs();
+        // Draw everything immediately so the window never opens with empty graphs
+        graphScheduler.invalidateAll();
+        graphScheduler.flush();
     }
     
     // Getters
@@ -62,25 +144,42 @@ public class AntColonyGame {
     public double getK() { return K; }
     public double getA() { return A; }
     public int getCurrentDay() { return currentDay; }
+    public boolean isFastForwarding() { return fastForwardWorker != null; }
     public double getLayMoreEggsRMultiplier() { return layMoreEggsRMultiplier; }
     public double getLayLessEggsRMultiplier() { return layLessEggsRMultiplier; }
     public double getBuildChambersKMultiplier() { return buildChambersKMultiplier; }
     public double getBuildChambersAMultiplier() { return buildChambersAMultiplier; }
     public double getDestroyChambersKMultiplier() { return destroyChambersKMultiplier; }
     public double getDestroyChambersAMultiplier() { return destroyChambersAMultiplier; }
+    public double getNannyAntsKFraction() { return nannyAntsKFraction; }
+    public double getCullPopulationMultiplier() { return cullPopulationMultiplier; }
+    public double getBreedingFrenzyRMultiplier() { return breedingFrenzyRMultiplier; }
     
     // Setters for technology effects
     public void setR(double newR) { 
         this.r = newR;
         if (this.r < 0) this.r = 0;
+        invalidateGraphs(Input.GROWTH_RATE);
     }
     public void setX(double newX) { 
+        if (agentColony != null) {
+            // Remove (or keep) individual ants at random to reach the new size
+            agentColony.thin(x > 0 ? Math.max(0, newX) / x : 0, System.nanoTime());
+            newX = agentColony.getPopulation();
+        } else if (demography != null) {
+            newX = demography.thin(Math.round(x), x > 0 ? Math.max(0, newX) / x : 0);
+        } else if (stages != null) {
+            // Population changes act on the workers; the brood is untouched
+            stages.setWorkers(newX);
+        }
         this.x = newX;
         if (this.x < 0) this.x = 0;
+        invalidateGraphs(Input.POPULATION);
     }
     public void setA(double newA) { 
         this.A = newA;
         if (this.A < 0) this.A = 0;
+        invalidateGraphs(Input.THRESHOLD);
     }
     
     /**
@@ -88,9 +187,11 @@ public class AntColonyGame {
      * Since tech points = currentDay / 10, deducting 1 point means advancing 10 days.
      */
     public boolean deductTechnologyPoints(int points) {
+        if (isFastForwarding()) return false;
         int pointsNeeded = points * 10;
         if (getTechnologyPoints() >= points) {
             currentDay += pointsNeeded;
+            invalidateGraphs(Input.DAY);
             return true;
         }
         return false;
@@ -106,33 +207,41 @@ public class AntColonyGame {
     /**
      * The Allee effect population model.
      */
-    private double populationModel(double xn, double rVal, double KVal, double AVal) {
+    static double populationModel(double xn, double rVal, double KVal, double AVal) {
         return xn + rVal * xn * (1 - xn / KVal) * (xn / AVal - 1);
     }
     
     public void newDay() {
+        if (isFastForwarding()) return;
+        
         RandomEvent.Event event = randomEvent.generateEvent();
+        if (randomEvent.hasRegimeChanged() && gui != null) {
+            gui.addNewsMessage(randomEvent.getRegime().announcement);
+        }
         
         r *= event.rMultiplier;
         K *= event.kMultiplier;
         A *= event.aMultiplier;
-        x *= event.populationMultiplier;
         
-        double newX = populationModel(x, r, K, A);
-        if (newX < 0) newX = 0;
-        
-        x = newX;
+        x = advancePopulation(x, r, K, A, event.populationMultiplier);
         currentDay++;
         populationHistory.add(x);
+        if (metapopulation != null) {
+            metapopulation.step(event);
+        }
+        historyPoints.add(new Point2D(populationHistory.size() - 1, x));
         
         updateStatus();
-        updateAllGraphs();
+        invalidateGraphs(Input.HISTORY, Input.POPULATION, Input.DAY);
+        if (event.rMultiplier != 1.0) invalidateGraphs(Input.GROWTH_RATE);
+        if (event.kMultiplier != 1.0) invalidateGraphs(Input.CAPACITY);
+        if (event.aMultiplier != 1.0) invalidateGraphs(Input.THRESHOLD);
         
         if (gui != null) {
             gui.addNewsMessage(event.message);
         }
         
-        if (x < 0.1) {
+        if (x < EXTINCTION_THRESHOLD) {
             JOptionPane.showMessageDialog(gui, 
                 "Your colony has gone extinct! Game Over.", 
                 "Extinction", 
@@ -141,44 +250,263 @@ public class AntColonyGame {
     }
     
     public void layMoreEggs() {
+        if (isFastForwarding()) return;
         r *= layMoreEggsRMultiplier;
         updateStatus();
-        updateAllGraphs();
+        invalidateGraphs(Input.GROWTH_RATE);
     }
     
     public void layLessEggs() {
+        if (isFastForwarding()) return;
         r *= layLessEggsRMultiplier;
         updateStatus();
-        updateAllGraphs();
+        invalidateGraphs(Input.GROWTH_RATE);
     }
     
     public void buildChambers() {
+        if (isFastForwarding()) return;
         K *= buildChambersKMultiplier;
         A *= buildChambersAMultiplier;
         updateStatus();
-        updateAllGraphs();
+        invalidateGraphs(Input.CAPACITY, Input.THRESHOLD);
     }
     
     public void destroyChambers() {
+        if (isFastForwarding()) return;
         K *= destroyChambersKMultiplier;
         A *= destroyChambersAMultiplier;
         updateStatus();
-        updateAllGraphs();
+        invalidateGraphs(Input.CAPACITY, Input.THRESHOLD);
     }
     
     public void resetGame() {
+        if (fastForwardWorker != null) {
+            // The worker reads the variant state and lattice that are replaced below
+            fastForwardWorker.cancelAndWait();
+            fastForwardWorker = null;
+        }
         x = x_initial;
         r = r_initial;
         K = K_initial;
         A = A_initial;
         populationHistory.clear();
         populationHistory.add(x);
+        // New list instance so the history panel knows to discard its cached rendering
+        historyPoints = new ArrayList<>();
+        historyPoints.add(new Point2D(0, x));
         currentDay = 0;
-        randomEvent = new RandomEvent();
+        randomEvent = createRandomEvent();
+        spectrum.reset();
+        startVariant();
+        if (metapopulation != null) {
+            seedMetapopulation();
+        }
         updateStatus();
         updateAllGraphs();
     }
     
+    // ==================== MODEL VARIANT ====================
+    
+    /**
+     * One day of population change under the active model variant. Also called from
+     * the fast-forward worker; the variant cannot change while that runs, and a reset
+     * waits for the worker to stop before replacing the variant state.
+     */
+    private double advancePopulation(double xn, double rVal, double KVal, double AVal, double populationMultiplier) {
+        switch (modelVariant) {
+            case AGENT_BASED:
+                agentColony.step(rVal, KVal, AVal, populationMultiplier);
+                return agentColony.getPopulation();
+                
+            case DEMOGRAPHIC:
+                return demography.step(Math.round(xn), rVal, KVal, AVal, populationMultiplier);
+                
+            case CONTINUOUS:
+                // One day is one time unit of dx/dt = r x (1 - x/K)(x/A - 1)
+                integrator.setParameters(rVal, KVal, AVal);
+                return Math.max(0, integrator.integrate(xn * populationMultiplier, 0, 1));
+                
+            case STAGE_STRUCTURED:
+                stages.step(rVal, KVal, AVal, populationMultiplier);
+                return stages.getPopulation();
+                
+            case DELAYED:
+                // Today's value may have been changed since the last step (event, cull)
+                delayMap.setCurrent(xn * populationMultiplier);
+                return delayMap.step(rVal, KVal, AVal);
+                
+            case MAP:
+            default:
+                double newX = populationModel(xn * populationMultiplier, rVal, KVal, AVal);
+                return newX < 0 ? 0 : newX;
+        }
+    }
+    
+    /**
+     * Switches the model that drives the population. The agent-based model starts
+     * from the current population, converted to individual ants.
+     */
+    public void setModelVariant(ModelVariant variant) {
+        if (isFastForwarding() || variant == modelVariant) return;
+        modelVariant = variant;
+        agentColony = null;
+        demography = null;
+        integrator = null;
+        stages = null;
+        delayMap = null;
+        startVariant();
+        updateStatus();
+        invalidateGraphs(Input.POPULATION, Input.MODEL);
+    }
+    
+    /**
+     * Creates the state the current variant needs, starting from the current population.
+     */
+    private void startVariant() {
+        if (modelVariant == ModelVariant.AGENT_BASED) {
+            agentColony = new AgentColony(x, AGENTS_PER_UNIT, System.nanoTime());
+            x = agentColony.getPopulation();
+        } else if (modelVariant == ModelVariant.DEMOGRAPHIC) {
+            demography = new DemographicModel(System.nanoTime());
+            x = Math.round(x);
+        } else if (modelVariant == ModelVariant.CONTINUOUS) {
+            integrator = new AlleeOdeIntegrator(ODE_RELATIVE_TOLERANCE, ODE_ABSOLUTE_TOLERANCE);
+        } else if (modelVariant == ModelVariant.STAGE_STRUCTURED) {
+            stages = new StageStructuredColony(x, r, K, A);
+        } else if (modelVariant == ModelVariant.DELAYED) {
+            delayMap = new DelayAlleeMap(FOOD_DELAY_DAYS);
+            delayMap.reset(x);
+        }
+    }
+    
+    /** The daily population history; read-only for callers. */
+    public List<Double> getPopulationHistory() { return Collections.unmodifiableList(populationHistory); }
+    
+    public ModelVariant getModelVariant() { return modelVariant; }
+    
+    // ==================== WEATHER ====================
+    
+    private RandomEvent createRandomEvent() {
+        RandomEvent generator = new RandomEvent();
+        if (weatherEnabled) {
+            generator.setWeather(weather);
+        }
+        return generator;
+    }
+    
+    /**
+     * Switches the weather regimes on or off; turning them on starts in fair weather.
+     * Ignored while fast-forwarding.
+     */
+    public void setWeatherEnabled(boolean enabled) {
+        if (isFastForwarding() || enabled == weatherEnabled) return;
+        weatherEnabled = enabled;
+        randomEvent.setWeather(enabled ? weather : null);
+        updateStatus();
+    }
+    
+    public boolean isWeatherEnabled() { return weatherEnabled; }
+    
+    /**
+     * A fresh event source with the game's weather, in today's regime, for the
+     * analyses and the advisor to sample their scenarios from.
+     */
+    public RandomEvent createEventPool() {
+        RandomEvent pool = createRandomEvent();
+        pool.restoreRegime(randomEvent.getRegime(), false);
+        return pool;
+    }
+    
+    /**
+     * Current weather regime, or null when the regimes are off.
+     */
+    public WeatherModel.Regime getWeatherRegime() {
+        return weatherEnabled ? randomEvent.getRegime() : null;
+    }
+    
+    /** The individual ants, or null unless the agent-based model is active. */
+    public AgentColony getAgentColony() { return agentColony; }
+    
+    /** Eggs, larvae, pupae and workers, or null unless the stage-structured model is active. */
+    public StageStructuredColony getStageColony() { return stages; }
+    
+    // ==================== METAPOPULATION ====================
+    
+    /**
+     * Turns the metapopulation lattice on or off. When turned on, it is seeded
+     * around the current colony and then follows the same daily events.
+     */
+    public void setMetapopulationEnabled(boolean enabled) {
+        if (isFastForwarding() || enabled == (metapopulation != null)) return;
+        if (enabled) {
+            metapopulation = new MetapopulationEngine(METAPOPULATION_SIZE, METAPOPULATION_SIZE, METAPOPULATION_MIGRATION);
+            seedMetapopulation();
+        } else {
+            metapopulation = null;
+        }
+    }
+    
+    public MetapopulationEngine getMetapopulation() { return metapopulation; }
+    
+    private void seedMetapopulation() {
+        metapopulation.seed(x, r, K, A, METAPOPULATION_HETEROGENEITY, System.nanoTime());
+    }
+    
+    // ==================== FAST FORWARD ====================
+    
+    /**
+     * Simulates the given number of days on a background thread, stopping early
+     * if the colony goes extinct.
+     */
+    public void fastForward(int days) {
+        fastForwardUntil(days, sim -> false);
+    }
+    
+    /**
+     * Simulates up to maxDays on a background thread, stopping as soon as the
+     * condition holds or the colony goes extinct. Status and history are refreshed
+     * with throttled snapshots; the analysis graphs are only recomputed at the end.
+     */
+    public void fastForwardUntil(int maxDays, Predicate<ColonySimulator> stopCondition) {
+        if (isFastForwarding() || maxDays <= 0) return;
+        
+        ColonySimulator sim = new ColonySimulator(x, r, K, A, currentDay, randomEvent);
+        fastForwardWorker = new FastForwardWorker(sim, maxDays, stopCondition);
+        fastForwardWorker.execute();
+    }
+    
+    private void applyFastForwardProgress(FastForwardProgress progress) {
+        x = progress.x;
+        r = progress.r;
+        K = progress.K;
+        A = progress.A;
+        currentDay = progress.day;
+        for (int i = 0; i < progress.populations.length; i++) {
+            populationHistory.add(progress.populations[i]);
+            historyPoints.add(new Point2D(populationHistory.size() - 1, progress.populations[i]));
+        }
+        updateStatus();
+        invalidateGraphs(Input.HISTORY);
+    }
+    
+    private void finishFastForward(int startDay, double startPopulation) {
+        fastForwardWorker = null;
+        updateStatus();
+        invalidateGraphs(Input.POPULATION, Input.DAY, Input.GROWTH_RATE, Input.CAPACITY, Input.THRESHOLD);
+        
+        if (gui != null) {
+            gui.addNewsMessage(String.format("⏩ Fast-forwarded %d days.\nPopulation went from %.2f to %.2f ants.",
+                currentDay - startDay, startPopulation, x));
+        }
+        
+        if (x < EXTINCTION_THRESHOLD) {
+            JOptionPane.showMessageDialog(gui, 
+                "Your colony has gone extinct! Game Over.", 
+                "Extinction", 
+                JOptionPane.WARNING_MESSAGE);
+        }
+    }
+    
     private void updateStatus() {
         if (gui != null) {
             gui.updateStatus();
@@ -186,20 +514,49 @@ public class AntColonyGame {
     }
     
     private void updateAllGraphs() {
+        invalidateGraphs(Input.values());
+    }
+    
+    /**
+     * Marks the graphs that depend on the changed inputs for recomputation on the next frame.
+     */
+    private void invalidateGraphs(Input... changed) {
         if (gui != null) {
-            updateHistoryGraph();
-            updateProjectionGraph();
-            updateLyapunovGraph();
-            updateBifurcationGraph();
+            graphScheduler.invalidate(changed);
         }
     }
     
+    /**
+     * Hands the append-only history point list to the GUI. The list is shared rather
+     * than rebuilt so the panel only has to draw the points added since its last paint.
+     */
     private void updateHistoryGraph() {
+        gui.updateHistoryGraph(historyPoints);
+    }
+    
+    private void updateCobwebGraph() {
+        gui.updateCobwebGraph(r, K, A, x, historyPoints);
+    }
+    
+    /**
+     * Slides the spectrum along the days appended since the last update and plots
+     * log10 power against frequency, marking the dominant cycle if there is one.
+     */
+    private void updateSpectrumGraph() {
+        spectrum.update(populationHistory);
+        int size = spectrum.getSize();
         List<Point2D> points = new ArrayList<>();
-        for (int i = 0; i < populationHistory.size(); i++) {
-            points.add(new Point2D(i, populationHistory.get(i)));
+        List<GraphPanel.Marker> markers = new ArrayList<>();
+        if (size > 0) {
+            for (int k = 1; k <= size / 2; k++) {
+                points.add(new Point2D((double) k / size, Math.log10(spectrum.getPower(k) + 1e-12)));
+            }
+            double period = spectrum.getDominantPeriod();
+            if (!Double.isNaN(period)) {
+                markers.add(new GraphPanel.Marker(1 / period, String.format("Cycle: %.1f days", period)));
+            }
         }
-        gui.updateHistoryGraph(points);
+        gui.updateSpectrumGraph(points, markers);
     }
     
     private void updateProjectionGraph() {
@@ -221,51 +578,75 @@ public class AntColonyGame {
         int warmup = 500;
         int samples = 500;
         
+        if (modelVariant == ModelVariant.DELAYED) {
+            // Largest exponent of the delay system, from its tangent dynamics
+            DelayAlleeMap sweepMap = new DelayAlleeMap(FOOD_DELAY_DAYS);
+            for (double testR = 0.01; testR <= 3.0; testR += 0.02) {
+                points.add(new Point2D(testR, sweepMap.lyapunov(K / 2.0, testR, K, A, warmup, samples, 1e-10, K * 10)));
+            }
+            gui.updateLyapunovGraph(points, bifurcationMarkers());
+            return;
+        }
+        AttractorDetector detector = new AttractorDetector(MAX_DETECTED_PERIOD, ATTRACTOR_TOLERANCE);
+        
         for (double testR = 0.01; testR <= 3.0; testR += 0.02) {
-            double x = K / 2.0;  // Start at middle of carrying capacity
+            points.add(new Point2D(testR, lyapunovExponent(detector, testR, K, A, warmup, samples)));
+        }
+        gui.updateLyapunovGraph(points, bifurcationMarkers());
+    }
+    
+    /**
+     * Lyapunov exponent at testR for the orbit from K/2. Exact when K is provably the
+     * attractor or the detector resolves one within the warmup, otherwise averaged
+     * over the given number of samples after it.
+     */
+    static double lyapunovExponent(AttractorDetector detector, double testR, double K, double A, 
+                                   int warmup, int samples) {
+        if (FixedPointAnalysis.convergesToCapacity(K / 2.0, testR, K, A, warmup)) {
+            // Provably settles on K: the exponent is ln|f'(K)|, no sampling needed
+            double derivative = FixedPointAnalysis.derivativeAtCapacity(testR, K, A);
+            return Math.abs(derivative) > 1e-15 ? Math.log(Math.abs(derivative)) : 0;
+        }
+        
+        // Warmup: let the system settle onto its attractor, starting at middle of carrying capacity.
+        // Clamping prevents complete extinction and blowup for the calculation.
+        detector.detect(K / 2.0, testR, K, A, warmup, 1e-10, K * 10);
+        
+        if (detector.isResolved()) {
+            // Fixed point, cycle or extinction: the exponent is exact over one period
+            return detector.getCycleLyapunov(testR, K, A);
+        }
+        double x = detector.getLastX();
+        
+        // Calculate Lyapunov exponent using derivative method
+        // λ = (1/n) * Σ ln|f'(x_i)|
+        double lyapunov = 0;
+        int validSamples = 0;
+        
+        for (int i = 0; i < samples; i++) {
+            // Calculate the derivative of the map at current point
+            double derivative = populationModelDerivative(x, testR, K, A);
             
-            // Warmup: let the system settle onto its attractor
-            for (int i = 0; i < warmup; i++) {
-                x = populationModel(x, testR, K, A);
-                if (x < 1e-10) {
-                    x = 1e-10;  // Prevent complete extinction for calculation
-                }
-                if (x > K * 10) {
-                    x = K * 10;  // Prevent blowup
-                }
+            if (Math.abs(derivative) > 1e-15) {
+                lyapunov += Math.log(Math.abs(derivative));
+                validSamples++;
             }
             
-            // Calculate Lyapunov exponent using derivative method
-            // λ = (1/n) * Σ ln|f'(x_i)|
-            double lyapunov = 0;
-            int validSamples = 0;
-            
-            for (int i = 0; i < samples; i++) {
-                // Calculate the derivative of the map at current point
-                double derivative = populationModelDerivative(x, testR, K, A);
-                
-                if (Math.abs(derivative) > 1e-15) {
-                    lyapunov += Math.log(Math.abs(derivative));
-                    validSamples++;
-                }
-                
-                // Iterate the map
-                x = populationModel(x, testR, K, A);
-                if (x < 1e-10) {
-                    x = 1e-10;
-                }
-                if (x > K * 10) {
-                    x = K * 10;
-                }
+            // Iterate the map
+            x = populationModel(x, testR, K, A);
+            if (x < 1e-10) {
+                x = 1e-10;
             }
-            
-            if (validSamples > 0) {
-                lyapunov /= validSamples;
+            if (x > K * 10) {
+                x = K * 10;
             }
-            
-            points.add(new Point2D(testR, lyapunov));
         }
-        gui.updateLyapunovGraph(points);
+        
+        if (validSamples > 0) {
+            lyapunov /= validSamples;
+        }
+        
+        return lyapunov;
     }
     
     /**
@@ -275,33 +656,45 @@ public class AntColonyGame {
      *       = 1 + r * [(1 - x/K)(x/A - 1) - (x/K)(x/A - 1) + (x/A)(1 - x/K)]
      *       = 1 + r * [(x/A - 1)(1 - 2x/K) + (x/A)(1 - x/K)]
      */
-    private double populationModelDerivative(double x, double rVal, double KVal, double AVal) {
+    static double populationModelDerivative(double x, double rVal, double KVal, double AVal) {
         double term1 = (x / AVal - 1) * (1 - 2 * x / KVal);
         double term2 = (x / AVal) * (1 - x / KVal);
         return 1 + rVal * (term1 + term2);
     }
     
     private void updateBifurcationGraph() {
-        List<Point2D> points = new ArrayList<>();
-        int warmup = 500;
-        int samples = 100;
-        
-        // Use finer stepping for smoother bifurcation diagram
-        for (double testR = 0.001; testR <= 3.0; testR += 0.005) {
-            double testX = 50.0;
-            
-            for (int i = 0; i < warmup; i++) {
-                testX = populationModel(testX, testR, K, A);
-                if (testX < 0) testX = 0;
-            }
-            
-            for (int i = 0; i < samples; i++) {
-                testX = populationModel(testX, testR, K, A);
-                if (testX < 0) testX = 0;
-                points.add(new Point2D(testR, testX));
-            }
+        if (modelVariant == ModelVariant.DELAYED) {
+            // The adaptive sweep relies on scalar-map cycle detection, so use a fixed grid
+            DelayAlleeMap sweepMap = new DelayAlleeMap(FOOD_DELAY_DAYS);
+            gui.updateBifurcationGraph(sweepMap.bifurcation(K / 2.0, K, A, 0.001, 3.0, 0.005, 500, 100),
+                bifurcationMarkers(), "Fixed grid of r values (delayed model)");
+            return;
         }
-        gui.updateBifurcationGraph(points);
+        // Adaptive r-resolution: coarse where the attractor is flat, fine near bifurcations
+        AdaptiveBifurcationSweep sweep = new AdaptiveBifurcationSweep(K, A);
+        List<Point2D> points = sweep.run();
+        String summary = String.format("Adaptive sweep: %d r values, %d iterations (fixed grid: %d, %d)",
+            sweep.getRValuesComputed(), sweep.getIterations(),
+            AdaptiveBifurcationSweep.FIXED_GRID_R_VALUES, AdaptiveBifurcationSweep.FIXED_GRID_ITERATIONS);
+        gui.updateBifurcationGraph(points, bifurcationMarkers(), summary);
+    }
+    
+    /**
+     * Exact bifurcation points of the map at the current K and A, for the sweep graphs.
+     * Empty for the delayed variant, whose sweeps are of a different map.
+     */
+    private List<GraphPanel.Marker> bifurcationMarkers() {
+        List<GraphPanel.Marker> markers = new ArrayList<>();
+        if (modelVariant == ModelVariant.DELAYED) return markers;
+        double superstable = FixedPointAnalysis.superstableR(K, A);
+        double doubling = FixedPointAnalysis.periodDoublingR(K, A);
+        if (superstable <= 3.0) {
+            markers.add(new GraphPanel.Marker(superstable, String.format("f'(K)=0: r=%.3f", superstable)));
+        }
+        if (doubling <= 3.0) {
+            markers.add(new GraphPanel.Marker(doubling, String.format("Period 2: r=%.3f", doubling)));
+        }
+        return markers;
     }
     
     public static void main(String[] args) {
@@ -323,4 +716,154 @@ public class AntColonyGame {
             this.y = y;
         }
     }
-}
\ No newline at end of file
+    
+    // ==================== INNER CLASS: FastForwardProgress ====================
+    
+    /**
+     * Snapshot of the colony plus the populations simulated since the previous snapshot.
+     */
+    private static class FastForwardProgress {
+        final double x, r, K, A;
+        final int day;
+        final double[] populations;
+        
+        FastForwardProgress(ColonySimulator sim, double[] populations) {
+            this.x = sim.getPopulation();
+            this.r = sim.getR();
+            this.K = sim.getK();
+            this.A = sim.getA();
+            this.day = sim.getDay();
+            this.populations = populations;
+        }
+    }
+    
+    // ==================== INNER CLASS: FastForwardWorker ====================
+    
+    /**
+     * Runs the simulation in a tight loop off the event dispatch thread. The
+     * simulator is owned by the worker until it finishes, and only immutable
+     * snapshots cross over to the GUI. The worker also steps the variant state and
+     * the lattice, so a reset stops it with cancelAndWait() before touching them.
+     */
+    private class FastForwardWorker extends SwingWorker<Void, FastForwardProgress> {
+        private final ColonySimulator sim;
+        private final int maxDays;
+        private final Predicate<ColonySimulator> stopCondition;
+        private final int startDay;
+        private final double startPopulation;
+        private final MetapopulationEngine lattice;  // Stepped alongside the colony, may be null
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch stopped = new CountDownLatch(1);
+        
+        FastForwardWorker(ColonySimulator sim, int maxDays, Predicate<ColonySimulator> stopCondition) {
+            this.sim = sim;
+            this.lattice = metapopulation;
+            this.maxDays = maxDays;
+            this.stopCondition = stopCondition;
+            this.startDay = sim.getDay();
+            this.startPopulation = sim.getPopulation();
+        }
+        
+        /**
+         * Cancels the run and blocks until the background loop has exited, which takes
+         * at most one block of days. Returns at once if the loop never started.
+         */
+        void cancelAndWait() {
+            cancel(true);
+            if (started.compareAndSet(false, true)) return;
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    stopped.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        @Override
+        protected Void doInBackground() {
+            // Claimed by cancelAndWait() if it got here first
+            if (!started.compareAndSet(false, true)) return null;
+            try {
+                return runDays();
+            } finally {
+                stopped.countDown();
+            }
+        }
+        
+        private Void runDays() {
+            double[] pending = new double[256];
+            int pendingCount = 0;
+            long lastPublish = System.nanoTime();
+            // The map runs a block of days per call; the other models go day by day
+            boolean blocks = modelVariant == ModelVariant.MAP;
+            double[] populations = new double[FAST_FORWARD_BLOCK_DAYS];
+            int[] events = new int[FAST_FORWARD_BLOCK_DAYS];
+            EventTable table = randomEvent.getTable();
+            
+            for (int i = 0; i < maxDays && !isCancelled(); ) {
+                int days;
+                if (blocks) {
+                    days = sim.advance(Math.min(FAST_FORWARD_BLOCK_DAYS, maxDays - i), populations, events, 
+                        stopCondition);
+                    if (lattice != null) {
+                        for (int d = 0; d < days; d++) {
+                            lattice.step(table.getEvent(events[d]));
+                        }
+                    }
+                } else {
+                    double before = sim.getPopulation();
+                    RandomEvent.Event event = sim.step();
+                    // The simulator stepped the map; replace its result with the active model's
+                    sim.setPopulation(advancePopulation(before, sim.getR(), sim.getK(), sim.getA(), 
+                        event.populationMultiplier));
+                    if (lattice != null) {
+                        lattice.step(event);
+                    }
+                    populations[0] = sim.getPopulation();
+                    days = 1;
+                }
+                if (pendingCount + days > pending.length) {
+                    pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingCount + days));
+                }
+                System.arraycopy(populations, 0, pending, pendingCount, days);
+                pendingCount += days;
+                i += days;
+                
+                boolean finished = sim.isExtinct() || stopCondition.test(sim);
+                long now = System.nanoTime();
+                if (finished || now - lastPublish >= FAST_FORWARD_PUBLISH_NANOS) {
+                    publish(new FastForwardProgress(sim, Arrays.copyOf(pending, pendingCount)));
+                    pendingCount = 0;
+                    lastPublish = now;
+                }
+                if (finished) {
+                    return null;
+                }
+            }
+            if (pendingCount > 0) {
+                publish(new FastForwardProgress(sim, Arrays.copyOf(pending, pendingCount)));
+            }
+            return null;
+        }
+        
+        @Override
+        protected void process(List<FastForwardProgress> chunks) {
+            if (isCancelled()) return;
+            for (FastForwardProgress progress : chunks) {
+                applyFastForwardProgress(progress);
+            }
+        }
+        
+        @Override
+        protected void done() {
+            if (isCancelled()) return;
+            finishFastForward(startDay, startPopulation);
+        }
+    }
+}
@@ -187,6 +187,17 @@ public class AntRenderer {
         }
     }
     
+    /**
+     * Matches the displayed ants' behaviour to sampled roles from the agent-based
+     * model, one role per displayed ant.
+     */
+    public void assignRoles(byte[] roles, int count) {
+        int n = Math.min(count, ants.size());
+        for (int i = 0; i < n; i++) {
+            ants.get(i).assignRole(roles[i], random);
+        }
+    }
+    
     public void repositionAllAnts(int canvasWidth, int canvasHeight, 
                                  int queenCenterX, int queenCenterY) {
         for (AntPosition ant : ants) {
@@ -300,30 +311,65 @@ public class AntRenderer {
             
             double typeRoll = random.nextDouble();
             if (typeRoll < 0.25) {
-                animType = AnimationType.JIGGLE;
-                animSpeed = 1.0 + random.nextDouble() * 2.0;
-                animAmplitude = 1.0 + random.nextDouble() * 2.0;
+                setAnimation(AnimationType.JIGGLE, random);
             } else if (typeRoll < 0.45) {
-                animType = AnimationType.CIRCLE;
-                animSpeed = 0.3 + random.nextDouble() * 0.7;
-                circleRadius = 8.0 + random.nextDouble() * 20.0;
-                circleAngle = random.nextDouble() * Math.PI * 2;
+                setAnimation(AnimationType.CIRCLE, random);
             } else if (typeRoll < 0.70) {
-                animType = AnimationType.FIGURE8;
-                animSpeed = 0.15 + random.nextDouble() * 0.4;
-                animAmplitude = 15.0 + random.nextDouble() * 25.0;
+                setAnimation(AnimationType.FIGURE8, random);
             } else if (typeRoll < 0.85) {
-                animType = AnimationType.PATROL;
-                animSpeed = 0.2 + random.nextDouble() * 0.4;
-                animAmplitude = 20.0 + random.nextDouble() * 30.0;
-                patrolPointsX = new double[4];
-                patrolPointsY = new double[4];
-                for (int i = 0; i < 4; i++) {
-                    patrolPointsX[i] = (random.nextDouble() - 0.5) * animAmplitude * 2;
-                    patrolPointsY[i] = (random.nextDouble() - 0.5) * animAmplitude * 2;
-                }
+                setAnimation(AnimationType.PATROL, random);
             } else {
-                animType = AnimationType.STATIC;
+                setAnimation(AnimationType.STATIC, random);
+            }
+        }
+        
+        void setAnimation(AnimationType type, Random random) {
+            animType = type;
+            switch (type) {
+                case JIGGLE:
+                    animSpeed = 1.0 + random.nextDouble() * 2.0;
+                    animAmplitude = 1.0 + random.nextDouble() * 2.0;
+                    break;
+                    
+                case CIRCLE:
+                    animSpeed = 0.3 + random.nextDouble() * 0.7;
+                    circleRadius = 8.0 + random.nextDouble() * 20.0;
+                    circleAngle = random.nextDouble() * Math.PI * 2;
+                    break;
+                    
+                case FIGURE8:
+                    animSpeed = 0.15 + random.nextDouble() * 0.4;
+                    animAmplitude = 15.0 + random.nextDouble() * 25.0;
+                    break;
+                    
+                case PATROL:
+                    animSpeed = 0.2 + random.nextDouble() * 0.4;
+                    animAmplitude = 20.0 + random.nextDouble() * 30.0;
+                    patrolPointsX = new double[4];
+                    patrolPointsY = new double[4];
+                    for (int i = 0; i < 4; i++) {
+                        patrolPointsX[i] = (random.nextDouble() - 0.5) * animAmplitude * 2;
+                        patrolPointsY[i] = (random.nextDouble() - 0.5) * animAmplitude * 2;
+                    }
+                    break;
+                    
+                case STATIC:
+                default:
+                    break;
+            }
+        }
+        
+        /**
+         * Nurses stay put and fidget; foragers roam. Ants already moving the
+         * right way keep their animation.
+         */
+        void assignRole(byte role, Random random) {
+            if (role == AgentColony.NURSE) {
+                if (animType == AnimationType.FIGURE8 || animType == AnimationType.PATROL) {
+                    setAnimation(random.nextBoolean() ? AnimationType.JIGGLE : AnimationType.CIRCLE, random);
+                }
+            } else if (animType != AnimationType.FIGURE8 && animType != AnimationType.PATROL) {
+                setAnimation(random.nextBoolean() ? AnimationType.FIGURE8 : AnimationType.PATROL, random);
             }
         }
         
@@ -0,0 +1,184 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.Arrays;
+
+/**
+ * Iterates the Allee map until its long-term behaviour is identified: extinction,
+ * a fixed point or a short cycle. Sweeps use it to stop after a handful of steps
+ * instead of always running a fixed warmup and sample count.
+ *
+ * A period p > 1 is only accepted once the orbit has stopped closing in on itself:
+ * near a period doubling a fixed point is approached in an oscillation that decays
+ * very slowly, so its last two repetitions agree long before the orbit has settled.
+ * Such an orbit is iterated further, and reported as a fixed point once its
+ * alternating points have collapsed to within the tolerance.
+ *
+ * Instances keep their buffers between calls and are not thread-safe; use one
+ * per thread.
+ */
+public class AttractorDetector {
+    // Attractor types returned by detect()
+    public static final int EXTINCT = 0;
+    public static final int FIXED_POINT = 1;
+    public static final int CYCLE = 2;
+    public static final int UNRESOLVED = 3;  // Chaotic, long cycle, or not yet converged
+
+    private static final int CHECK_INTERVAL = 8;  // Iterations between cycle checks
+    private static final double ROUNDING = 1e-13;  // Relative mismatch that is only rounding noise
+
+    private final int maxPeriod;
+    private final double tolerance;
+    private final double[] recent;  // Ring buffer of the last 2 * maxPeriod iterates
+    private final double[] cycle;
+    private final double[] lastMismatch;  // Per period, how far apart its repetitions were at the last check
+
+    private int type;
+    private int period;
+    private int iterations;
+    private double lastX;
+
+    public AttractorDetector(int maxPeriod, double tolerance) {
+        if (maxPeriod < 1) {
+            throw new IllegalArgumentException("maxPeriod must be at least 1, got " + maxPeriod);
+        }
+        this.maxPeriod = maxPeriod;
+        this.tolerance = tolerance;
+        this.recent = new double[2 * maxPeriod];
+        this.cycle = new double[maxPeriod];
+        this.lastMismatch = new double[maxPeriod + 1];
+    }
+
+    /**
+     * Iterates the map from x0 for at most maxIterations steps, clamping each iterate
+     * to [lower, upper] the same way the sweeps do, and stops as soon as the attractor
+     * is identified.
+     *
+     * Extinction is declared once x drops below min(A, K): for r > 0, f(x) < x there,
+     * so the orbit decreases monotonically to the lower bound.
+     *
+     * @return one of EXTINCT, FIXED_POINT, CYCLE or UNRESOLVED
+     */
+    public int detect(double x0, double r, double K, double A, int maxIterations, double lower, double upper) {
+        double extinctionLevel = Math.min(A, K);
+        double x = x0;
+        int ringSize = recent.length;
+        period = 0;
+        Arrays.fill(lastMismatch, Double.POSITIVE_INFINITY);
+
+        for (int n = 0; n < maxIterations; n++) {
+            x = AntColonyGame.populationModel(x, r, K, A);
+            if (x < lower) x = lower;
+            if (x > upper) x = upper;
+            recent[n % ringSize] = x;
+
+            if ((r > 0 && x < extinctionLevel) || x == lower) {
+                return finish(EXTINCT, n + 1, x, lower);
+            }
+
+            if (n + 1 >= ringSize && (n + 1) % CHECK_INTERVAL == 0) {
+                int p = findPeriod(n);
+                if (p > 0) {
+                    for (int i = 0; i < p; i++) {
+                        cycle[i] = recent[(n - p + 1 + i) % ringSize];
+                    }
+                    if (p > 1 && isCollapsed(p)) {
+                        cycle[0] = x;
+                        period = 1;
+                        return finish(FIXED_POINT, n + 1, x, x);
+                    }
+                    period = p;
+                    return finish(p == 1 ? FIXED_POINT : CYCLE, n + 1, x, x);
+                }
+            }
+        }
+
+        return finish(UNRESOLVED, maxIterations, x, x);
+    }
+
+    /**
+     * Returns the smallest period p whose last two repetitions agree within the
+     * tolerance, or 0 if there is none up to maxPeriod. The newest iterate is at index n.
+     * For p > 1 the repetitions must also have stopped converging since the last check
+     * (or agree to rounding), otherwise the orbit may still be spiralling into a
+     * fixed point.
+     */
+    private int findPeriod(int n) {
+        int ringSize = recent.length;
+        int found = 0;
+        for (int p = 1; p <= maxPeriod; p++) {
+            double mismatch = 0;
+            for (int i = 0; i < p; i++) {
+                double a = recent[(n - i) % ringSize];
+                double b = recent[(n - i - p + ringSize) % ringSize];
+                mismatch = Math.max(mismatch, Math.abs(a - b) / (1 + Math.abs(a)));
+            }
+            boolean settled = p == 1 || mismatch <= ROUNDING || mismatch >= lastMismatch[p];
+            lastMismatch[p] = mismatch;
+            if (found == 0 && mismatch <= tolerance && settled) {
+                found = p;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * True if the p points just copied into cycle all lie within the tolerance of
+     * each other.
+     */
+    private boolean isCollapsed(int p) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < p; i++) {
+            double value = cycle[i];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return max - min <= tolerance * (1 + Math.abs(max));
+    }
+
+    private int finish(int type, int iterations, double x, double attractorPoint) {
+        this.type = type;
+        this.iterations = iterations;
+        this.lastX = x;
+        if (type == EXTINCT) {
+            cycle[0] = attractorPoint;
+            period = 1;
+        }
+        return type;
+    }
+
+    // ==================== RESULTS ====================
+
+    public int getType() { return type; }
+
+    /** Number of map iterations the last call used. */
+    public int getIterations() { return iterations; }
+
+    /** Last iterate, used to continue iterating when the attractor is unresolved. */
+    public double getLastX() { return lastX; }
+
+    /** Period of the detected attractor (1 for fixed points and extinction, 0 if unresolved). */
+    public int getPeriod() { return period; }
+
+    /** The i-th point of the detected cycle, for 0 <= i < getPeriod(). */
+    public double getCyclePoint(int i) { return cycle[i]; }
+
+    public boolean isResolved() { return type != UNRESOLVED; }
+
+    /**
+     * Lyapunov exponent of the detected attractor: the mean of ln|f'(x)| over one
+     * period, which is what a long sampled average converges to.
+     */
+    public double getCycleLyapunov(double r, double K, double A) {
+        double lyapunov = 0;
+        int validSamples = 0;
+        for (int i = 0; i < period; i++) {
+            double derivative = AntColonyGame.populationModelDerivative(cycle[i], r, K, A);
+            if (Math.abs(derivative) > 1e-15) {
+                lyapunov += Math.log(Math.abs(derivative));
+                validSamples++;
+            }
+        }
+        return validSamples > 0 ? lyapunov / validSamples : 0;
+    }
+}
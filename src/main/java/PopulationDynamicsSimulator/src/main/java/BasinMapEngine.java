@@ -0,0 +1,166 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Basin-of-attraction map over starting population x0 and growth rate r at fixed
+ * K and A. Every grid point is iterated until its attractor is identified and
+ * classified as extinct, fixed point, cycle or chaotic. Results are kept in
+ * primitive arrays, one byte per cell.
+ */
+public class BasinMapEngine {
+    // Cell classes
+    public static final byte EXTINCT = 0;
+    public static final byte FIXED_POINT = 1;
+    public static final byte CYCLE = 2;
+    public static final byte CHAOTIC = 3;
+    public static final byte LONG_PERIOD = 4;  // Not resolved, but not chaotic either
+
+    public static final String[] CLASS_NAMES = { "extinct", "fixed point", "cycle", "chaotic", "long period" };
+    public static final Color[] CLASS_COLORS = {
+        new Color(40, 40, 40),
+        new Color(30, 70, 170),
+        new Color(40, 150, 80),
+        new Color(210, 50, 40),
+        new Color(150, 90, 200)
+    };
+
+    private static final int MAX_ITERATIONS = 500;
+    private static final int LYAPUNOV_SAMPLES = 300;
+
+    private static final ThreadLocal<AttractorDetector> DETECTOR =
+        ThreadLocal.withInitial(() -> new AttractorDetector(16, 1e-9));
+
+    private final int width;     // Cells along r
+    private final int height;    // Cells along x0
+    private final double rMax;
+    private final double x0Max;
+    private final double K;
+    private final double A;
+    private final byte[] classes;
+    private final byte[] periods;
+
+    public BasinMapEngine(int width, int height, double rMax, double x0Max, double K, double A) {
+        this.width = width;
+        this.height = height;
+        this.rMax = rMax;
+        this.x0Max = x0Max;
+        this.K = K;
+        this.A = A;
+        this.classes = new byte[width * height];
+        this.periods = new byte[width * height];
+    }
+
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public double getRMax() { return rMax; }
+    public double getX0Max() { return x0Max; }
+    public double getK() { return K; }
+    public double getA() { return A; }
+
+    /** r at the centre of column ix. */
+    public double rAt(int ix) {
+        return (ix + 0.5) * rMax / width;
+    }
+
+    /** x0 at the centre of row iy; row 0 is the top of the image (largest x0). */
+    public double x0At(int iy) {
+        return x0Max - (iy + 0.5) * x0Max / height;
+    }
+
+    public byte getClass(int ix, int iy) {
+        return classes[iy * width + ix];
+    }
+
+    // ==================== COMPUTATION ====================
+
+    /**
+     * Classifies rows [fromRow, toRow) in parallel. Callers can compute the map in
+     * bands to show progress.
+     */
+    public void computeRows(int fromRow, int toRow) {
+        IntStream.range(fromRow, toRow).parallel().forEach(iy -> {
+            double x0 = x0At(iy);
+            AttractorDetector detector = DETECTOR.get();
+            int offset = iy * width;
+            for (int ix = 0; ix < width; ix++) {
+                classifyCell(detector, rAt(ix), x0, offset + ix);
+            }
+        });
+    }
+
+    private void classifyCell(AttractorDetector detector, double r, double x0, int index) {
+        // Same clamping as the game itself: the population cannot go negative
+        int type = detector.detect(x0, r, K, A, MAX_ITERATIONS, 0, Double.MAX_VALUE);
+        byte cellClass;
+        if (type == AttractorDetector.EXTINCT) {
+            cellClass = EXTINCT;
+        } else if (type == AttractorDetector.FIXED_POINT) {
+            cellClass = FIXED_POINT;
+        } else if (type == AttractorDetector.CYCLE) {
+            cellClass = CYCLE;
+        } else {
+            cellClass = sampleLyapunov(detector.getLastX(), r) > 0 ? CHAOTIC : LONG_PERIOD;
+        }
+        classes[index] = cellClass;
+        periods[index] = (byte) Math.min(detector.getPeriod(), Byte.MAX_VALUE);
+    }
+
+    private double sampleLyapunov(double x, double r) {
+        double lyapunov = 0;
+        int validSamples = 0;
+        for (int i = 0; i < LYAPUNOV_SAMPLES; i++) {
+            double derivative = AntColonyGame.populationModelDerivative(x, r, K, A);
+            if (Math.abs(derivative) > 1e-15) {
+                lyapunov += Math.log(Math.abs(derivative));
+                validSamples++;
+            }
+            x = AntColonyGame.populationModel(x, r, K, A);
+            if (x < 0) x = 0;
+        }
+        return validSamples > 0 ? lyapunov / validSamples : 0;
+    }
+
+    // ==================== OUTPUT ====================
+
+    /**
+     * Renders the classes into an image, one pixel per cell.
+     */
+    public BufferedImage toImage() {
+        int[] rgb = new int[CLASS_COLORS.length];
+        for (int i = 0; i < rgb.length; i++) {
+            rgb[i] = CLASS_COLORS[i].getRGB();
+        }
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = rgb[classes[i]];
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Writes one line per cell: r, x0, class name and attractor period.
+     */
+    public void writeCsv(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, "UTF-8")) {
+            out.printf(Locale.ROOT, "# K=%f A=%f%n", K, A);
+            out.println("r,x0,class,period");
+            for (int iy = 0; iy < height; iy++) {
+                double x0 = x0At(iy);
+                for (int ix = 0; ix < width; ix++) {
+                    int index = iy * width + ix;
+                    out.printf(Locale.ROOT, "%.6f,%.6f,%s,%d%n", rAt(ix), x0, CLASS_NAMES[classes[index]], periods[index]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.BasicStroke;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.SwingWorker;
+
+/**
+ * Shows the basin-of-attraction map for starting population vs. growth rate, filling
+ * it in band by band while it computes, with buttons to export it as PNG or CSV.
+ */
+public class BasinMapPanel extends JPanel {
+    private static final int GRID_WIDTH = 600;
+    private static final int GRID_HEIGHT = 400;
+    private static final int BAND_ROWS = 16;
+    private static final int MARGIN = 60;
+
+    private final BasinMapEngine engine;
+    private final double currentR;
+    private final double currentX;
+    private BufferedImage image;
+    private int rowsDone;
+    private String failure;  // Why the map could not be computed, shown under the title
+    private final JButton exportPngButton;
+    private final JButton exportCsvButton;
+
+    public BasinMapPanel(double r, double x, double K, double A) {
+        super(new BorderLayout());
+        this.currentR = r;
+        this.currentX = x;
+        // Cover populations up to 1.5 K so overshoots above capacity are visible too
+        this.engine = new BasinMapEngine(GRID_WIDTH, GRID_HEIGHT, 3.0, 1.5 * K, K, A);
+        setBackground(Color.WHITE);
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 5));
+        buttons.setOpaque(false);
+        exportPngButton = new JButton("Export PNG...");
+        exportPngButton.setFont(GameFonts.SMALL);
+        exportPngButton.addActionListener(e -> export(false));
+        exportCsvButton = new JButton("Export CSV...");
+        exportCsvButton.setFont(GameFonts.SMALL);
+        exportCsvButton.addActionListener(e -> export(true));
+        exportPngButton.setEnabled(false);
+        exportCsvButton.setEnabled(false);
+        buttons.add(exportPngButton);
+        buttons.add(exportCsvButton);
+        add(buttons, BorderLayout.NORTH);
+
+        startComputation();
+    }
+
+    private void startComputation() {
+        new SwingWorker<Void, Integer>() {
+            @Override
+            protected Void doInBackground() {
+                for (int row = 0; row < GRID_HEIGHT; row += BAND_ROWS) {
+                    int end = Math.min(GRID_HEIGHT, row + BAND_ROWS);
+                    engine.computeRows(row, end);
+                    publish(end);
+                }
+                return null;
+            }
+
+            @Override
+            protected void process(List<Integer> chunks) {
+                rowsDone = chunks.get(chunks.size() - 1);
+                image = engine.toImage();
+                repaint();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    exportPngButton.setEnabled(true);
+                    exportCsvButton.setEnabled(true);
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    failure = "Basin map failed: " + cause.getMessage();
+                    repaint();
+                }
+            }
+        }.execute();
+    }
+
+    private void export(boolean csv) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File(csv ? "basin_map.csv" : "basin_map.png"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File file = chooser.getSelectedFile();
+        try {
+            if (csv) {
+                engine.writeCsv(file);
+            } else {
+                ImageIO.write(engine.toImage(), "png", file);
+            }
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(this, "Could not save " + file + ": " + ex.getMessage(),
+                "Export", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+        int width = getWidth();
+        int height = getHeight();
+        int plotWidth = width - 2 * MARGIN;
+        int plotHeight = height - 2 * MARGIN;
+
+        g2.setColor(Color.BLACK);
+        g2.setFont(GameFonts.TITLE);
+        String title = String.format("Basin of Attraction (x0, r) at K=%.2f, A=%.2f", engine.getK(), engine.getA());
+        FontMetrics fm = g2.getFontMetrics();
+        g2.drawString(title, (width - fm.stringWidth(title)) / 2, 30);
+        if (failure != null) {
+            g2.setColor(Color.RED);
+            g2.setFont(GameFonts.SMALL);
+            fm = g2.getFontMetrics();
+            g2.drawString(failure, (width - fm.stringWidth(failure)) / 2, MARGIN - 10);
+            g2.setColor(Color.BLACK);
+        }
+
+        if (plotWidth <= 0 || plotHeight <= 0) return;
+
+        // Only the finished rows are shown; the rest stays blank until computed
+        if (image != null && rowsDone > 0) {
+            int shownHeight = plotHeight * rowsDone / GRID_HEIGHT;
+            g2.drawImage(image, MARGIN, MARGIN, MARGIN + plotWidth, MARGIN + shownHeight,
+                0, 0, GRID_WIDTH, rowsDone, null);
+        }
+
+        // Allee threshold and current colony position
+        g2.setStroke(new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[] { 6, 4 }, 0));
+        g2.setColor(Color.WHITE);
+        int thresholdY = MARGIN + (int) ((1 - engine.getA() / engine.getX0Max()) * plotHeight);
+        if (thresholdY >= MARGIN && thresholdY <= MARGIN + plotHeight) {
+            g2.drawLine(MARGIN, thresholdY, MARGIN + plotWidth, thresholdY);
+            g2.setFont(GameFonts.TINY);
+            g2.drawString("A", MARGIN + plotWidth + 4, thresholdY + 4);
+        }
+        g2.setStroke(new BasicStroke(2));
+        int markerX = MARGIN + (int) (currentR / engine.getRMax() * plotWidth);
+        int markerY = MARGIN + (int) ((1 - currentX / engine.getX0Max()) * plotHeight);
+        g2.drawOval(markerX - 6, markerY - 6, 12, 12);
+
+        g2.setColor(Color.GRAY);
+        g2.setStroke(new BasicStroke(1));
+        g2.drawRect(MARGIN, MARGIN, plotWidth, plotHeight);
+
+        g2.setColor(Color.BLACK);
+        g2.setFont(GameFonts.SMALL);
+        g2.drawString("r=0", MARGIN, height - MARGIN + 15);
+        g2.drawString(String.format("r=%.1f", engine.getRMax()), width - MARGIN - 30, height - MARGIN + 15);
+        g2.drawString(String.format("x0=%.1f", engine.getX0Max()), 5, MARGIN + 10);
+        g2.drawString("x0=0", 5, height - MARGIN);
+
+        // Legend
+        int legendX = 10;
+        for (int i = 0; i < BasinMapEngine.CLASS_NAMES.length; i++) {
+            g2.setColor(BasinMapEngine.CLASS_COLORS[i]);
+            g2.fillRect(legendX, height - 22, 12, 12);
+            g2.setColor(Color.BLACK);
+            g2.drawString(BasinMapEngine.CLASS_NAMES[i], legendX + 16, height - 12);
+            legendX += 30 + g2.getFontMetrics().stringWidth(BasinMapEngine.CLASS_NAMES[i]);
+        }
+        if (rowsDone < GRID_HEIGHT) {
+            g2.drawString(String.format("Computing... %d%%", rowsDone * 100 / GRID_HEIGHT), legendX + 10, height - 12);
+        }
+    }
+}
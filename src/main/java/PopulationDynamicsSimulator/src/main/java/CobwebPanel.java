@@ -0,0 +1,342 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Window;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+import java.util.List;
+
+import javax.swing.BorderFactory;
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+/**
+ * Cobweb diagram of the map at the current r, K and A, with the return map
+ * (x_n, x_{n+1}) of the actual history drawn over it.
+ *
+ * The curve f(x), the diagonal and the 30-day cobweb from today's population are
+ * paths in population units, built once per change of parameters (or of today's
+ * population for the cobweb) and only transformed to the screen when painting.
+ * The history is drawn into a cached image, adding only the days appended since
+ * the last paint; it is redrawn in full only when the axes, the zoom or the size
+ * change, or when the history list is replaced.
+ *
+ * Clicking opens a larger copy that shares the same paths and history, with
+ * mouse-wheel zoom and drag to pan.
+ */
+public class CobwebPanel extends JPanel {
+    private static final String TITLE = "Cobweb / Return Map";
+    private static final int CURVE_SAMPLES = 400;
+    private static final int COBWEB_STEPS = 30;
+    private static final double AXIS_GROWTH = 1.5;  // Headroom added whenever the axes grow
+    private static final Color CURVE_COLOR = new Color(0, 110, 140);
+    private static final Color COBWEB_COLOR = new Color(230, 120, 0);
+    private static final Color HISTORY_COLOR = new Color(120, 0, 160, 90);
+
+    private final Geometry geometry;
+    private final boolean zoomable;
+    private final int margin;
+
+    // Zoom and pan of the popup copy, in population units
+    private double zoomLevel = 1.0;
+    private double panX, panY;
+    private Point lastMousePos;
+
+    // Incremental history layer
+    private BufferedImage historyCache;
+    private List<AntColonyGame.Point2D> cachedHistory;
+    private int renderedCount;
+    private double cachedMinX, cachedMinY, cachedSpan;
+    private final BitSet drawnSteps = new BitSet();   // Return-map pixels already in the layer
+
+    private CobwebPanel popupCopy;
+
+    // ==================== INNER CLASS: Geometry ====================
+
+    /**
+     * What both the small panel and its popup draw: the parameters, the history and
+     * the cached paths, all in population units.
+     */
+    private static class Geometry {
+        double r, K, A, x;
+        List<AntColonyGame.Point2D> history;
+        double axisMax;
+        double historyMax;
+        int scannedCount;    // History points already included in historyMax
+        Path2D.Double curve;
+        Path2D.Double cobweb;
+    }
+
+    public CobwebPanel() {
+        this(new Geometry(), false);
+    }
+
+    private CobwebPanel(Geometry geometry, boolean zoomable) {
+        this.geometry = geometry;
+        this.zoomable = zoomable;
+        this.margin = zoomable ? 60 : 30;
+        setBackground(Color.WHITE);
+
+        if (zoomable) {
+            addMouseWheelListener(e -> {
+                zoomLevel *= (e.getWheelRotation() < 0) ? 1.1 : 0.9;
+                zoomLevel = Math.max(1.0, Math.min(zoomLevel, 50.0));
+                repaint();
+            });
+            MouseAdapter pan = new MouseAdapter() {
+                @Override
+                public void mousePressed(MouseEvent e) {
+                    lastMousePos = e.getPoint();
+                }
+
+                @Override
+                public void mouseDragged(MouseEvent e) {
+                    if (lastMousePos == null) return;
+                    double unitsPerPixel = viewSpan() / Math.max(1, getWidth() - 2 * margin);
+                    panX -= (e.getX() - lastMousePos.x) * unitsPerPixel;
+                    panY += (e.getY() - lastMousePos.y) * unitsPerPixel;
+                    lastMousePos = e.getPoint();
+                    repaint();
+                }
+            };
+            addMouseListener(pan);
+            addMouseMotionListener(pan);
+        } else {
+            setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
+            setCursor(new Cursor(Cursor.HAND_CURSOR));
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent evt) {
+                    openGraphWindow();
+                }
+            });
+        }
+    }
+
+    private void openGraphWindow() {
+        Window parent = SwingUtilities.getWindowAncestor(this);
+        JDialog graphDialog = new JDialog(parent instanceof JFrame ? (JFrame) parent : null, TITLE, false);
+        graphDialog.setSize(700, 700);
+        graphDialog.setLocationRelativeTo(parent);
+        CobwebPanel copy = new CobwebPanel(geometry, true);
+        popupCopy = copy;
+        graphDialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                if (popupCopy == copy) popupCopy = null;
+            }
+        });
+        graphDialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        graphDialog.add(copy);
+        graphDialog.setVisible(true);
+    }
+
+    // ==================== DATA ====================
+
+    /**
+     * Sets the map parameters, today's population and the append-only history list
+     * (day, population). Paths are rebuilt only for what actually changed.
+     */
+    public void setData(double r, double K, double A, double x, List<AntColonyGame.Point2D> history) {
+        Geometry g = geometry;
+        boolean parametersChanged = r != g.r || K != g.K || A != g.A;
+        if (history != g.history) {
+            g.history = history;
+            g.historyMax = 0;
+            g.scannedCount = 0;
+        }
+        for (int i = g.scannedCount; i < history.size(); i++) {
+            g.historyMax = Math.max(g.historyMax, history.get(i).y);
+        }
+        g.scannedCount = history.size();
+
+        // Axes grow geometrically and only shrink when far too large, so most days keep them
+        double needed = Math.max(1.2 * Math.max(K, A), g.historyMax * 1.05);
+        if (needed > g.axisMax || needed * 4 * AXIS_GROWTH < g.axisMax) {
+            g.axisMax = needed * AXIS_GROWTH;
+            parametersChanged = true;
+        }
+
+        g.r = r;
+        g.K = K;
+        g.A = A;
+        if (parametersChanged || g.curve == null) {
+            g.curve = buildCurve(r, K, A, g.axisMax);
+        }
+        if (parametersChanged || x != g.x || g.cobweb == null) {
+            g.cobweb = buildCobweb(x, r, K, A, g.axisMax);
+        }
+        g.x = x;
+
+        repaint();
+        if (popupCopy != null) popupCopy.repaint();
+    }
+
+    private static Path2D.Double buildCurve(double r, double K, double A, double axisMax) {
+        Path2D.Double path = new Path2D.Double();
+        for (int i = 0; i <= CURVE_SAMPLES; i++) {
+            double x = axisMax * i / CURVE_SAMPLES;
+            double y = clampY(AntColonyGame.populationModel(x, r, K, A), axisMax);
+            if (i == 0) path.moveTo(x, y);
+            else path.lineTo(x, y);
+        }
+        return path;
+    }
+
+    /** Staircase x0 -> f(x0) -> diagonal -> ..., stopping early on extinction. */
+    private static Path2D.Double buildCobweb(double x0, double r, double K, double A, double axisMax) {
+        Path2D.Double path = new Path2D.Double();
+        double x = x0;
+        path.moveTo(x, 0);
+        for (int i = 0; i < COBWEB_STEPS; i++) {
+            double next = Math.max(0, AntColonyGame.populationModel(x, r, K, A));
+            path.lineTo(x, clampY(next, axisMax));
+            path.lineTo(clampY(next, axisMax), clampY(next, axisMax));
+            if (next == 0) break;
+            x = next;
+        }
+        return path;
+    }
+
+    /** Keeps far off-screen values from turning into huge coordinates. */
+    private static double clampY(double y, double axisMax) {
+        return Math.max(-axisMax, Math.min(2 * axisMax, y));
+    }
+
+    // ==================== PAINTING ====================
+
+    private double viewSpan() {
+        return geometry.axisMax / zoomLevel;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        int width = getWidth();
+        int height = getHeight();
+        int plotWidth = width - 2 * margin;
+        int plotHeight = height - 2 * margin;
+
+        g2.setColor(Color.BLACK);
+        g2.setFont(zoomable ? GameFonts.TITLE : GameFonts.SMALL);
+        FontMetrics fm = g2.getFontMetrics();
+        g2.drawString(TITLE, (width - fm.stringWidth(TITLE)) / 2, zoomable ? 30 : 15);
+        if (zoomable) {
+            g2.setFont(GameFonts.SMALL);
+            g2.drawString(String.format("Zoom: %.1fx (Scroll to zoom, Drag to pan)", zoomLevel), 10, height - 10);
+        }
+
+        Geometry geo = geometry;
+        if (geo.curve == null || plotWidth <= 0 || plotHeight <= 0) return;
+
+        // The zoomed window is centred on the full view and shifted by the pan
+        double span = viewSpan();
+        double minX = (geo.axisMax - span) / 2 - panX;
+        double minY = (geo.axisMax - span) / 2 - panY;
+        AffineTransform toScreen = new AffineTransform();
+        toScreen.translate(margin, height - margin);
+        toScreen.scale(plotWidth / span, -plotHeight / span);
+        toScreen.translate(-minX, -minY);
+
+        paintHistory(g2, toScreen, width, height, minX, minY, span);
+
+        Shape oldClip = g2.getClip();
+        g2.clipRect(margin, margin, plotWidth + 1, plotHeight + 1);
+        g2.setColor(Color.LIGHT_GRAY);
+        g2.draw(toScreen.createTransformedShape(new Line2D.Double(0, 0, geo.axisMax, geo.axisMax)));
+        g2.setStroke(new BasicStroke(zoomable ? 2 : 1.5f));
+        g2.setColor(CURVE_COLOR);
+        g2.draw(toScreen.createTransformedShape(geo.curve));
+        g2.setStroke(new BasicStroke(1));
+        g2.setColor(COBWEB_COLOR);
+        g2.draw(toScreen.createTransformedShape(geo.cobweb));
+        g2.setClip(oldClip);
+
+        // Axes and labels
+        g2.setColor(Color.GRAY);
+        g2.drawLine(margin, height - margin, width - margin, height - margin);
+        g2.drawLine(margin, margin, margin, height - margin);
+        g2.setFont(zoomable ? GameFonts.SMALL : GameFonts.TINY);
+        g2.drawString(String.format("%.1f", minX), margin - 15, height - margin + 12);
+        g2.drawString(String.format("%.1f", minX + span), width - margin - 15, height - margin + 12);
+        g2.drawString(String.format("%.1f", minY), 3, height - margin);
+        g2.drawString(String.format("%.1f", minY + span), 3, margin + 5);
+    }
+
+    /**
+     * Draws the history's return-map points and steps from the cached layer, adding
+     * only the days appended since the last paint.
+     */
+    private void paintHistory(Graphics2D g2, AffineTransform toScreen, int width, int height,
+                              double minX, double minY, double span) {
+        List<AntColonyGame.Point2D> history = geometry.history;
+        if (history == null) return;
+
+        boolean fullRedraw = historyCache == null || history != cachedHistory || history.size() < renderedCount
+            || historyCache.getWidth() != width || historyCache.getHeight() != height
+            || minX != cachedMinX || minY != cachedMinY || span != cachedSpan;
+        if (fullRedraw) {
+            historyCache = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            cachedHistory = history;
+            cachedMinX = minX;
+            cachedMinY = minY;
+            cachedSpan = span;
+            drawnSteps.clear();
+            renderedCount = 0;
+        }
+
+        if (renderedCount < history.size()) {
+            // No antialiasing here: a long history is thousands of tiny segments, mostly on top of each other
+            Graphics2D cg = historyCache.createGraphics();
+            cg.clipRect(margin, margin, width - 2 * margin + 1, height - 2 * margin + 1);
+            cg.setColor(HISTORY_COLOR);
+            double[] points = new double[6];
+            for (int i = Math.max(1, renderedCount); i < history.size(); i++) {
+                double previous = history.get(i - 1).y;
+                double current = history.get(i).y;
+                // (x_n, x_n) -> (x_n, x_{n+1}) -> (x_{n+1}, x_{n+1})
+                points[0] = previous;
+                points[1] = previous;
+                points[2] = previous;
+                points[3] = current;
+                points[4] = current;
+                points[5] = current;
+                toScreen.transform(points, 0, points, 0, 3);
+                // A step is fixed by its return-map pixel; on a settled cycle almost all are repeats
+                int px = (int) points[2];
+                int py = (int) points[3];
+                if (px >= 0 && px < width && py >= 0 && py < height) {
+                    int pixel = py * width + px;
+                    if (drawnSteps.get(pixel)) continue;
+                    drawnSteps.set(pixel);
+                }
+                cg.drawLine((int) points[0], (int) points[1], (int) points[2], (int) points[3]);
+                cg.drawLine((int) points[2], (int) points[3], (int) points[4], (int) points[5]);
+                cg.fillOval((int) points[2] - 2, (int) points[3] - 2, 4, 4);
+            }
+            cg.dispose();
+            renderedCount = history.size();
+        }
+        g2.drawImage(historyCache, 0, 0, null);
+    }
+}
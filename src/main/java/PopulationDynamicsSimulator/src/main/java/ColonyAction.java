@@ -0,0 +1,67 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+/**
+ * The player's actions: the four action buttons, the three technology buttons, or
+ * doing nothing. Used by headless simulations to replay or search over strategies.
+ */
+public enum ColonyAction {
+    NONE("Wait"),
+    LAY_MORE_EGGS("Lay More Eggs"),
+    LAY_LESS_EGGS("Lay Less Eggs"),
+    BUILD_CHAMBERS("Build Chambers"),
+    DESTROY_CHAMBERS("Destroy Chambers"),
+    NANNY_ANTS("Nanny Ants"),
+    CULL("Cull"),
+    BREEDING_FRENZY("Breeding Frenzy");
+
+    public final String label;
+
+    ColonyAction(String label) {
+        this.label = label;
+    }
+
+    // ==================== INNER CLASS: Effects ====================
+
+    /**
+     * Strength of each action, matching the game's button effect parameters.
+     */
+    public static class Effects {
+        public final double layMoreEggsRMultiplier;
+        public final double layLessEggsRMultiplier;
+        public final double buildChambersKMultiplier;
+        public final double buildChambersAMultiplier;
+        public final double destroyChambersKMultiplier;
+        public final double destroyChambersAMultiplier;
+        public final double nannyAntsKFraction;        // A grows by this fraction of K
+        public final double cullPopulationMultiplier;
+        public final double breedingFrenzyRMultiplier;
+
+        public Effects(double layMoreEggsRMultiplier, double layLessEggsRMultiplier,
+                       double buildChambersKMultiplier, double buildChambersAMultiplier,
+                       double destroyChambersKMultiplier, double destroyChambersAMultiplier,
+                       double nannyAntsKFraction, double cullPopulationMultiplier,
+                       double breedingFrenzyRMultiplier) {
+            this.layMoreEggsRMultiplier = layMoreEggsRMultiplier;
+            this.layLessEggsRMultiplier = layLessEggsRMultiplier;
+            this.buildChambersKMultiplier = buildChambersKMultiplier;
+            this.buildChambersAMultiplier = buildChambersAMultiplier;
+            this.destroyChambersKMultiplier = destroyChambersKMultiplier;
+            this.destroyChambersAMultiplier = destroyChambersAMultiplier;
+            this.nannyAntsKFraction = nannyAntsKFraction;
+            this.cullPopulationMultiplier = cullPopulationMultiplier;
+            this.breedingFrenzyRMultiplier = breedingFrenzyRMultiplier;
+        }
+
+        /**
+         * The effects currently used by the game's buttons.
+         */
+        public static Effects from(AntColonyGame game) {
+            return new Effects(
+                game.getLayMoreEggsRMultiplier(), game.getLayLessEggsRMultiplier(),
+                game.getBuildChambersKMultiplier(), game.getBuildChambersAMultiplier(),
+                game.getDestroyChambersKMultiplier(), game.getDestroyChambersAMultiplier(),
+                game.getNannyAntsKFraction(), game.getCullPopulationMultiplier(),
+                game.getBreedingFrenzyRMultiplier());
+        }
+    }
+}
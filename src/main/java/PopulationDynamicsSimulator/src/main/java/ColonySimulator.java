@@ -0,0 +1,211 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.function.Predicate;
+
+/**
+ * Headless colony state stepped with the same Allee map and random events as
+ * AntColonyGame, without touching the GUI. Used for fast-forward and batch runs.
+ *
+ * Long runs go through advance(), which works a block of days at a time: the block's
+ * events are drawn up front, the r, K and A trajectories are built as prefix products
+ * in one pass, and the per-day loop then only evaluates the map. The products are
+ * taken in the same order as step(), so both give bit-identical runs.
+ */
+public class ColonySimulator {
+    private double x;
+    private double r;
+    private double K;
+    private double A;
+    private int day;
+    private final RandomEvent randomEvent;
+
+    // Block buffers, allocated on first use and grown as needed
+    private int[] blockEvents;
+    private WeatherModel.Regime[] blockRegimes;
+    private double[] rPath;
+    private double[] kPath;
+    private double[] aPath;
+    private double[] populationMultipliers;
+
+    /**
+     * @param randomEvent source of events for step(); may be null if the caller
+     *                    always supplies events itself
+     */
+    public ColonySimulator(double x, double r, double K, double A, int day, RandomEvent randomEvent) {
+        this.x = x;
+        this.r = r;
+        this.K = K;
+        this.A = A;
+        this.day = day;
+        this.randomEvent = randomEvent;
+    }
+
+    /**
+     * Copies another simulator's state, sharing its event source.
+     */
+    public ColonySimulator(ColonySimulator other) {
+        this(other.x, other.r, other.K, other.A, other.day, other.randomEvent);
+    }
+
+    // Getters
+    public double getPopulation() { return x; }
+    public double getR() { return r; }
+    public double getK() { return K; }
+    public double getA() { return A; }
+    public int getDay() { return day; }
+
+    /**
+     * Overrides the population, for callers that drive it with another model.
+     */
+    void setPopulation(double x) { this.x = x; }
+
+    /**
+     * Advances one day: draws a random event, applies its multipliers and
+     * iterates the population model, exactly like AntColonyGame.newDay().
+     */
+    public RandomEvent.Event step() {
+        RandomEvent.Event event = randomEvent.generateEvent();
+        step(event);
+        return event;
+    }
+
+    /**
+     * Advances one day with an event chosen by the caller, for samplers that draw
+     * events from their own distribution.
+     */
+    public void step(RandomEvent.Event event) {
+        r *= event.rMultiplier;
+        K *= event.kMultiplier;
+        A *= event.aMultiplier;
+        x *= event.populationMultiplier;
+
+        double newX = AntColonyGame.populationModel(x, r, K, A);
+        if (newX < 0) newX = 0;
+
+        x = newX;
+        day++;
+    }
+
+    // ==================== BLOCK STEPPING ====================
+
+    /**
+     * Advances up to days days with events from the simulator's RandomEvent, the same
+     * as calling step() that many times if the run is not cut short. Stops early after
+     * a day on which the colony is extinct or stopCondition (if not null) holds; the
+     * weather regime is then put back to that of the last day run, but the random
+     * stream has already moved past the whole block, so later days differ from what
+     * step() would have drawn.
+     *
+     * @param populations receives the population at the end of each day; may be null
+     * @param events      receives each day's event index in the table; may be null
+     * @return the number of days advanced
+     */
+    public int advance(int days, double[] populations, int[] events, Predicate<ColonySimulator> stopCondition) {
+        int[] indices = events;
+        if (indices == null) {
+            if (blockEvents == null || blockEvents.length < days) blockEvents = new int[days];
+            indices = blockEvents;
+        }
+        if (blockRegimes == null || blockRegimes.length < days) blockRegimes = new WeatherModel.Regime[days];
+        WeatherModel.Regime startRegime = randomEvent.getRegime();
+        boolean startChanged = randomEvent.hasRegimeChanged();
+
+        randomEvent.generateIndices(indices, blockRegimes, days);
+        int advanced = advance(randomEvent.getTable(), indices, 0, days, populations, stopCondition);
+
+        if (advanced == 0) {
+            randomEvent.restoreRegime(startRegime, startChanged);
+        } else if (advanced < days) {
+            WeatherModel.Regime last = blockRegimes[advanced - 1];
+            WeatherModel.Regime before = advanced > 1 ? blockRegimes[advanced - 2] : startRegime;
+            randomEvent.restoreRegime(last, last != before);
+        }
+        return advanced;
+    }
+
+    /**
+     * Replays events[from .. from + count) from table, stopping early as above.
+     *
+     * @param populations receives the population at the end of each day; may be null
+     * @return the number of days advanced
+     */
+    public int advance(EventTable table, int[] events, int from, int count, double[] populations,
+                       Predicate<ColonySimulator> stopCondition) {
+        if (isExtinct() || count <= 0) return 0;
+        ensureBlockCapacity(count);
+
+        // Parameter trajectories as running products, multiplied in the same order as step()
+        double rNow = r, kNow = K, aNow = A;
+        for (int d = 0; d < count; d++) {
+            int e = events[from + d];
+            rNow *= table.getRMultiplier(e);
+            kNow *= table.getKMultiplier(e);
+            aNow *= table.getAMultiplier(e);
+            rPath[d] = rNow;
+            kPath[d] = kNow;
+            aPath[d] = aNow;
+            populationMultipliers[d] = table.getPopulationMultiplier(e);
+        }
+
+        // The map itself
+        int d = 0;
+        while (d < count) {
+            r = rPath[d];
+            K = kPath[d];
+            A = aPath[d];
+            double newX = AntColonyGame.populationModel(x * populationMultipliers[d], r, K, A);
+            x = newX < 0 ? 0 : newX;
+            day++;
+            if (populations != null) populations[d] = x;
+            d++;
+            if (isExtinct() || (stopCondition != null && stopCondition.test(this))) break;
+        }
+        return d;
+    }
+
+    private void ensureBlockCapacity(int count) {
+        if (rPath == null || rPath.length < count) {
+            rPath = new double[count];
+            kPath = new double[count];
+            aPath = new double[count];
+            populationMultipliers = new double[count];
+        }
+    }
+
+    /**
+     * Applies a player action, with the same effect as the matching button.
+     */
+    public void apply(ColonyAction action, ColonyAction.Effects effects) {
+        switch (action) {
+            case LAY_MORE_EGGS:
+                r *= effects.layMoreEggsRMultiplier;
+                break;
+            case LAY_LESS_EGGS:
+                r *= effects.layLessEggsRMultiplier;
+                break;
+            case BUILD_CHAMBERS:
+                K *= effects.buildChambersKMultiplier;
+                A *= effects.buildChambersAMultiplier;
+                break;
+            case DESTROY_CHAMBERS:
+                K *= effects.destroyChambersKMultiplier;
+                A *= effects.destroyChambersAMultiplier;
+                break;
+            case NANNY_ANTS:
+                A += K * effects.nannyAntsKFraction;
+                break;
+            case CULL:
+                x *= effects.cullPopulationMultiplier;
+                break;
+            case BREEDING_FRENZY:
+                r *= effects.breedingFrenzyRMultiplier;
+                break;
+            case NONE:
+                break;
+        }
+    }
+
+    public boolean isExtinct() {
+        return x < AntColonyGame.EXTINCTION_THRESHOLD;
+    }
+}
@@ -0,0 +1,158 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Allee map with a delayed response to crowding:
+ *
+ *   x_{n+1} = x_n + r x_n (1 - x_{n-tau}/K)(x_n/A - 1)
+ *
+ * The colony breeds on today's numbers but feels the food shortage of tau days ago,
+ * so it overshoots K and oscillates where the plain map would settle.
+ *
+ * The last tau + 1 populations live in a fixed-size ring buffer, so a step costs the
+ * same as a step of the scalar map. The largest Lyapunov exponent of the delay
+ * system (a map on tau + 1 dimensions) is tracked the same way: a tangent vector
+ * in a second ring buffer follows the linearized map, and it is renormalized once
+ * every tau + 1 steps, which keeps the average cost per step constant.
+ */
+public class DelayAlleeMap {
+    private final int delay;
+    private final int mask;
+    private final double[] history;   // x_{n-k} at (head - k) & mask
+    private final double[] tangent;   // Tangent vector components, indexed like history
+    private int head;
+
+    public DelayAlleeMap(int delay) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("delay must be at least 1, got " + delay);
+        }
+        this.delay = delay;
+        this.mask = Integer.highestOneBit(delay) * 2 - 1;
+        this.history = new double[mask + 1];
+        this.tangent = new double[mask + 1];
+    }
+
+    public int getDelay() { return delay; }
+
+    /**
+     * Fills the history with x0, as if the colony had been that size for tau days.
+     */
+    public void reset(double x0) {
+        Arrays.fill(history, x0);
+        head = 0;
+    }
+
+    /**
+     * Replaces today's population (after a cull, an event, or a change by another
+     * model) without touching the older history.
+     */
+    public void setCurrent(double x) {
+        history[head] = x;
+    }
+
+    /**
+     * Advances one day and returns the new population. Overshoot below zero means
+     * extinction, as in the plain map.
+     */
+    public double step(double r, double K, double A) {
+        double x = history[head];
+        double lagged = history[(head - delay) & mask];
+        double next = x + r * x * (1 - lagged / K) * (x / A - 1);
+        if (next < 0) next = 0;
+        head = (head + 1) & mask;
+        history[head] = next;
+        return next;
+    }
+
+    // ==================== SWEEPS ====================
+
+    /**
+     * Bifurcation diagram over r in [rStart, rEnd]: the populations visited after the
+     * warm-up, from a constant history at x0.
+     */
+    public List<AntColonyGame.Point2D> bifurcation(double x0, double K, double A, double rStart, double rEnd,
+                                                   double rStep, int warmup, int samples) {
+        List<AntColonyGame.Point2D> points = new ArrayList<>();
+        for (double r = rStart; r <= rEnd; r += rStep) {
+            reset(x0);
+            for (int i = 0; i < warmup; i++) {
+                step(r, K, A);
+            }
+            for (int i = 0; i < samples; i++) {
+                points.add(new AntColonyGame.Point2D(r, step(r, K, A)));
+            }
+        }
+        return points;
+    }
+
+    // ==================== LYAPUNOV EXPONENT ====================
+
+    /**
+     * Largest Lyapunov exponent at (r, K, A), starting from a constant history at
+     * x0. Populations are clamped to [floor, ceiling] as in the scalar sweeps.
+     */
+    public double lyapunov(double x0, double r, double K, double A, int warmup, int samples,
+                           double floor, double ceiling) {
+        reset(x0);
+        for (int i = 0; i < warmup; i++) {
+            clampCurrent(floor, ceiling);
+            step(r, K, A);
+        }
+
+        // Unit tangent vector along the newest coordinate
+        Arrays.fill(tangent, 0);
+        tangent[head] = 1;
+        double logGrowth = 0;
+        int counted = 0;
+        int lastRenormalized = 0;
+        int window = delay + 1;
+        for (int i = 1; i <= samples; i++) {
+            clampCurrent(floor, ceiling);
+            double x = history[head];
+            double lagged = history[(head - delay) & mask];
+            // d x_{n+1} = a d x_n + b d x_{n-tau}
+            double a = 1 + r * (1 - lagged / K) * (2 * x / A - 1);
+            double b = -r * x * (x / A - 1) / K;
+            double v = a * tangent[head] + b * tangent[(head - delay) & mask];
+            step(r, K, A);
+            tangent[head] = v;
+
+            if (i % window == 0 || i == samples) {
+                double norm = tangentNorm();
+                int stretch = i - lastRenormalized;
+                lastRenormalized = i;
+                if (norm > 1e-300 && Double.isFinite(norm)) {
+                    logGrowth += Math.log(norm);
+                    for (int k = 0; k < window; k++) {
+                        tangent[(head - k) & mask] /= norm;
+                    }
+                    counted += stretch;
+                } else {
+                    // Superstable or degenerate stretch: skip it, like the scalar sweep skips f'(x) = 0
+                    Arrays.fill(tangent, 0);
+                    tangent[head] = 1;
+                }
+            }
+        }
+        return counted > 0 ? logGrowth / counted : 0;
+    }
+
+    /** Euclidean norm over the tau + 1 coordinates of the delay state. */
+    private double tangentNorm() {
+        double sum = 0;
+        for (int k = 0; k <= delay; k++) {
+            double v = tangent[(head - k) & mask];
+            sum += v * v;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private void clampCurrent(double floor, double ceiling) {
+        double x = history[head];
+        if (x < floor) history[head] = floor;
+        else if (x > ceiling) history[head] = ceiling;
+    }
+}
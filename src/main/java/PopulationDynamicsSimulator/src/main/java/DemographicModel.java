@@ -0,0 +1,51 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.SplittableRandom;
+
+/**
+ * Stochastic demography around the Allee map: the population is a whole number of
+ * ants, and each day's births and deaths are random draws whose expected result is
+ * the map's f(N). A small colony can therefore die out by bad luck even where the
+ * map would let it recover.
+ *
+ * Every ant dies with probability BASE_MORTALITY. If f(N) is more than the
+ * survivors, the difference is born: deaths ~ Binomial(N, mu), births ~
+ * Poisson(f(N) - N(1 - mu)). If f(N) is less than that, there are no births and each
+ * ant survives with probability f(N)/N instead. The draws are constant-time, so a
+ * colony of millions costs the same as a colony of ten.
+ */
+public class DemographicModel {
+    private static final double BASE_MORTALITY = 0.05;
+
+    private final SplittableRandom random;
+
+    public DemographicModel(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Next day's population from n ants. populationMultiplier is the day's event
+     * effect (e.g. 0.5 for a plague), applied as a survival chance before breeding.
+     */
+    public long step(long n, double r, double K, double A, double populationMultiplier) {
+        n = FastSamplers.binomial(n, populationMultiplier, random);
+        if (n == 0) return 0;
+
+        double expected = AntColonyGame.populationModel(n, r, K, A);
+        if (expected <= 0) return 0;
+
+        double survivorsExpected = n * (1 - BASE_MORTALITY);
+        if (expected >= survivorsExpected) {
+            long deaths = FastSamplers.binomial(n, BASE_MORTALITY, random);
+            return n - deaths + FastSamplers.poisson(expected - survivorsExpected, random);
+        }
+        return FastSamplers.binomial(n, expected / n, random);
+    }
+
+    /**
+     * Keeps each of n ants with the given probability, e.g. 0.5 for a cull.
+     */
+    public long thin(long n, double keepProbability) {
+        return FastSamplers.binomial(n, Math.min(1, keepProbability), random);
+    }
+}
@@ -0,0 +1,214 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable table of the random events and their weights, with the multipliers in
+ * primitive arrays and an alias sampler built once. Tables are safe to share between
+ * threads, so every game, simulator and ensemble uses the same default table and
+ * creating a RandomEvent costs nothing.
+ *
+ * The default table is read once from events.txt (searched for in the same places
+ * as the images), so events can be added without recompiling. Each line of the file
+ * is "weight | growth | capacity | threshold | population | message", where the four
+ * multipliers scale r, K, A and the population and "\n" in the message starts a new
+ * line. If the file is missing or malformed, the built-in events are used.
+ */
+public final class EventTable {
+    public static final String FILE_NAME = "events.txt";
+    private static final int FIELDS = 6;
+
+    private final RandomEvent.Event[] events;
+    private final double[] weights;
+    private final double[] rMultipliers;
+    private final double[] kMultipliers;
+    private final double[] aMultipliers;
+    private final double[] populationMultipliers;
+    private final AliasTable sampler;
+
+    private static class DefaultHolder {
+        static final EventTable TABLE = loadDefault();
+    }
+
+    /**
+     * @param events  the events; their messages are interned
+     * @param weights relative weight of each event
+     */
+    public EventTable(List<RandomEvent.Event> events, double[] weights) {
+        int n = events.size();
+        if (weights.length != n) {
+            throw new IllegalArgumentException("Expected " + n + " weights, got " + weights.length);
+        }
+        this.events = new RandomEvent.Event[n];
+        this.weights = weights.clone();
+        this.rMultipliers = new double[n];
+        this.kMultipliers = new double[n];
+        this.aMultipliers = new double[n];
+        this.populationMultipliers = new double[n];
+        for (int i = 0; i < n; i++) {
+            RandomEvent.Event e = events.get(i);
+            this.events[i] = new RandomEvent.Event(e.message.intern(), e.rMultiplier, e.kMultiplier,
+                e.aMultiplier, e.populationMultiplier);
+            rMultipliers[i] = e.rMultiplier;
+            kMultipliers[i] = e.kMultiplier;
+            aMultipliers[i] = e.aMultiplier;
+            populationMultipliers[i] = e.populationMultiplier;
+        }
+        this.sampler = new AliasTable(this.weights);
+    }
+
+    // ==================== LOADING ====================
+
+    /**
+     * The shared table, loaded on first use.
+     */
+    public static EventTable getDefault() {
+        return DefaultHolder.TABLE;
+    }
+
+    private static EventTable loadDefault() {
+        File file = ImageLoader.locate(FILE_NAME);
+        if (file != null) {
+            try {
+                EventTable table = parse(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+                System.out.println("Loaded " + table.size() + " events from: " + file.getAbsolutePath());
+                return table;
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Could not read " + file + ": " + e.getMessage());
+            }
+        } else {
+            System.err.println("Could not find " + FILE_NAME);
+        }
+        System.out.println("Using the built-in events");
+        return builtIn();
+    }
+
+    /**
+     * Parses the lines of an event file. Blank lines and lines starting with # are
+     * skipped.
+     *
+     * @throws IllegalArgumentException naming the line that is malformed
+     */
+    public static EventTable parse(List<String> lines) {
+        List<RandomEvent.Event> events = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+            String line = lines.get(lineNumber - 1).strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] fields = line.split("\\|", FIELDS);
+            if (fields.length != FIELDS) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected " + FIELDS
+                    + " fields separated by |");
+            }
+            try {
+                double weight = Double.parseDouble(fields[0].strip());
+                double r = Double.parseDouble(fields[1].strip());
+                double k = Double.parseDouble(fields[2].strip());
+                double a = Double.parseDouble(fields[3].strip());
+                double population = Double.parseDouble(fields[4].strip());
+                if (!(weight >= 0) || !(r > 0) || !(k > 0) || !(a > 0) || !(population >= 0)) {
+                    throw new IllegalArgumentException("Line " + lineNumber
+                        + ": weights must be non-negative and multipliers positive");
+                }
+                String message = fields[5].strip().replace("\\n", "\n");
+                events.add(new RandomEvent.Event(message, r, k, a, population));
+                weights.add(weight);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+        if (events.isEmpty()) {
+            throw new IllegalArgumentException("No events defined");
+        }
+        return new EventTable(events, weights.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    /**
+     * The events the game shipped with, used when no event file can be read.
+     */
+    static EventTable builtIn() {
+        List<RandomEvent.Event> events = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+
+        // 75% chance of no event
+        add(events, weights, 75.0, new RandomEvent.Event("☀️ It's a beautiful day today!", 1.0, 1.0, 1.0));
+
+        // Common events (weight 3 each)
+        add(events, weights, 3.0, new RandomEvent.Event("🌧️ Light rainfall. The colony found some food.\n+5% growth rate", 1.05, 1.0, 1.0));
+        add(events, weights, 3.0, new RandomEvent.Event("🌱 New foraging trail discovered!\n+8% growth rate, +5% carrying capacity", 1.08, 1.05, 1.0));
+        add(events, weights, 3.0, new RandomEvent.Event("🌸 Mild spring weather. Good conditions.\n+10% growth rate", 1.10, 1.0, 1.0));
+        add(events, weights, 3.0, new RandomEvent.Event("🌿 Perfect weather conditions!\n+8% growth rate, +5% carrying capacity, -8% Allee threshold", 1.08, 1.05, 0.92));
+
+        // Uncommon events (weight 1.5 each)
+        add(events, weights, 1.5, new RandomEvent.Event("☀️ Hot day. Workers are less active.\n-10% growth rate", 0.90, 1.0, 1.0));
+        add(events, weights, 1.5, new RandomEvent.Event("🍄 Discovered a small fungus patch!\n+12% carrying capacity", 1.0, 1.12, 1.0));
+        add(events, weights, 1.5, new RandomEvent.Event("🦗 Insects nearby! Easy prey for workers.\n+12% growth rate, +8% carrying capacity", 1.12, 1.08, 1.0));
+        add(events, weights, 1.5, new RandomEvent.Event("🏗️ Workers expanded some chambers.\n+10% carrying capacity, -8% Allee threshold", 1.0, 1.10, 0.92));
+        add(events, weights, 1.5, new RandomEvent.Event("🔬 Workers developed better coordination!\n-12% Allee threshold", 1.0, 1.0, 0.88));
+        add(events, weights, 1.5, new RandomEvent.Event("🌪️ Windstorm disrupted foraging.\n-12% growth rate", 0.88, 1.0, 1.0));
+
+        // Rare events (weight 0.5 each)
+        add(events, weights, 0.5, new RandomEvent.Event("🦎 Predator spotted near colony!\n-10% carrying capacity, +8% Allee threshold", 1.0, 0.90, 1.08));
+        add(events, weights, 0.5, new RandomEvent.Event("☀️ Drought conditions. Food scarce.\n-18% growth rate", 0.82, 1.0, 1.0));
+        add(events, weights, 0.5, new RandomEvent.Event("❄️ Cold snap! Workers sluggish.\n-15% growth rate", 0.85, 1.0, 1.0));
+        add(events, weights, 0.5, new RandomEvent.Event("🐜 Rival colony detected nearby.\n-12% carrying capacity, +10% Allee threshold", 1.0, 0.88, 1.10));
+        add(events, weights, 0.5, new RandomEvent.Event("🏚️ Found abandoned nest! Free chambers.\n+20% carrying capacity, -12% Allee threshold", 1.0, 1.20, 0.88));
+        add(events, weights, 0.5, new RandomEvent.Event("🍯 Found a rich sugar source!\n+15% growth rate, +10% carrying capacity, -8% Allee threshold", 1.15, 1.10, 0.92));
+        add(events, weights, 0.5, new RandomEvent.Event("👑 Queen produced extra eggs!\n+25% growth rate", 1.25, 1.0, 1.0));
+        add(events, weights, 0.5, new RandomEvent.Event("🌧️ Heavy rainfall! Abundant food.\n+18% growth rate, +10% carrying capacity", 1.18, 1.10, 1.0));
+
+        // Very rare events (weight 0.2 each)
+        add(events, weights, 0.2, new RandomEvent.Event("🦠 Disease outbreak! Colony health compromised.\n-25% growth rate, +15% Allee threshold", 0.75, 1.0, 1.15));
+        add(events, weights, 0.2, new RandomEvent.Event("☠️ DEVASTATING PLAGUE! Half the colony has perished!\nPopulation reduced by 50%, -20% growth rate", 0.80, 1.0, 1.0, 0.5));
+        add(events, weights, 0.2, new RandomEvent.Event("🏗️ Tunnel collapse! Lost chambers.\n-22% carrying capacity, +10% Allee threshold", 1.0, 0.78, 1.10));
+        add(events, weights, 0.2, new RandomEvent.Event("🦂 Scorpion nest discovered nearby!\n-20% growth rate, +18% Allee threshold", 0.80, 1.0, 1.18));
+        add(events, weights, 0.2, new RandomEvent.Event("⚡ Lightning strike! Workers scattered.\n-28% growth rate, +12% Allee threshold", 0.72, 1.0, 1.12));
+        add(events, weights, 0.2, new RandomEvent.Event("🪨 Discovered deep caverns! Major expansion.\n+28% carrying capacity, -20% Allee threshold", 1.0, 1.28, 0.80));
+        add(events, weights, 0.2, new RandomEvent.Event("☠️ PLAGUE! Devastating disease sweeps through colony!\nHalf the population perished. -20% growth rate, +20% Allee threshold", 0.80, 1.0, 1.20, 0.5));
+
+        return new EventTable(events, weights.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    private static void add(List<RandomEvent.Event> events, List<Double> weights, double weight,
+                            RandomEvent.Event event) {
+        events.add(event);
+        weights.add(weight);
+    }
+
+    // ==================== ACCESS ====================
+
+    public int size() { return events.length; }
+    public RandomEvent.Event getEvent(int index) { return events[index]; }
+    public double getWeight(int index) { return weights[index]; }
+    public double getRMultiplier(int index) { return rMultipliers[index]; }
+    public double getKMultiplier(int index) { return kMultipliers[index]; }
+    public double getAMultiplier(int index) { return aMultipliers[index]; }
+    public double getPopulationMultiplier(int index) { return populationMultipliers[index]; }
+
+    /**
+     * Probability of each event; a new array on every call.
+     */
+    public double[] getProbabilities() {
+        double total = 0;
+        for (double w : weights) {
+            total += w;
+        }
+        double[] probabilities = new double[weights.length];
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] = weights[i] / total;
+        }
+        return probabilities;
+    }
+
+    /**
+     * Index of an event drawn from the weights, given u uniform in [0, 1).
+     */
+    public int sample(double u) {
+        return sampler.sample(u);
+    }
+}
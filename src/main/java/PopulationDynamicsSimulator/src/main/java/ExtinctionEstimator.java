@@ -0,0 +1,275 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Estimates the probability that the colony goes extinct within a horizon of days.
+ * Extinction often hinges on a run of rare events (plague, tunnel collapse), so naive
+ * Monte Carlo needs a huge number of runs. Two variance-reduced estimators are offered:
+ *
+ * - Importance sampling: rare events are drawn more often than normal (optionally
+ *   tilted toward harmful ones), and each run is weighted by its likelihood ratio
+ *   p(path) / q(path).
+ * - Multilevel splitting: runs that reach successively lower population levels are
+ *   cloned and continued, and the estimate is the product of the level-crossing rates.
+ *
+ * If the event pool has weather regimes, every run starts in the pool's current
+ * regime and draws each day's regime before its event, so runs see the same
+ * clustering as the game. Only the event draws are reweighted or split on; the
+ * regime chain always follows its own law.
+ *
+ * Runs are independent and execute in parallel; each run uses its own seeded random
+ * stream, so results are reproducible for a given seed.
+ */
+public class ExtinctionEstimator {
+    private static final double Z_95 = 1.96;
+
+    private final RandomEvent.Event[] events;
+    private final WeatherModel weather;         // null without weather regimes
+    private final WeatherModel.Regime startRegime;
+    private final double[][] probabilities;     // Per regime; all rows equal without weather
+    private final double[] harm;  // Log-scale harm score per event, > 0 for harmful events
+    private final ColonySimulator start;
+
+    // ==================== INNER CLASS: Estimate ====================
+
+    /**
+     * Point estimate with a 95% confidence interval.
+     */
+    public static class Estimate {
+        public final String method;
+        public final double probability;
+        public final double standardError;
+        public final int runs;
+
+        Estimate(String method, double probability, double standardError, int runs) {
+            this.method = method;
+            this.probability = probability;
+            this.standardError = standardError;
+            this.runs = runs;
+        }
+
+        public double lower() { return Math.max(0, probability - Z_95 * standardError); }
+        public double upper() { return Math.min(1, probability + Z_95 * standardError); }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s p=%.3e  95%% CI [%.3e, %.3e]  (%d runs)",
+                method, probability, lower(), upper(), runs);
+        }
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * @param pool  event distribution to sample from, with its weather and current regime
+     * @param start colony state the runs start from; it is copied, never modified
+     */
+    public ExtinctionEstimator(RandomEvent pool, ColonySimulator start) {
+        int n = pool.getEventCount();
+        this.events = new RandomEvent.Event[n];
+        this.harm = new double[n];
+        for (int i = 0; i < n; i++) {
+            events[i] = pool.getEvent(i);
+            harm[i] = harmScore(events[i]);
+        }
+        this.weather = pool.getWeather();
+        this.startRegime = pool.getRegime();
+        WeatherModel.Regime[] regimes = WeatherModel.Regime.values();
+        this.probabilities = new double[regimes.length][];
+        for (WeatherModel.Regime regime : regimes) {
+            probabilities[regime.ordinal()] = weather != null ? weather.getEventProbabilities(regime)
+                : pool.getProbabilities();
+        }
+        this.start = new ColonySimulator(start);
+    }
+
+    /**
+     * How much an event pushes the colony toward extinction, on a log scale:
+     * lower growth, capacity or population and a higher Allee threshold all count.
+     */
+    static double harmScore(RandomEvent.Event event) {
+        return -Math.log(event.rMultiplier * event.kMultiplier * event.populationMultiplier / event.aMultiplier);
+    }
+
+    // ==================== ESTIMATORS ====================
+
+    /**
+     * Plain Monte Carlo: the fraction of runs that go extinct.
+     */
+    public Estimate naive(int runs, int horizon, long seed) {
+        double[] cumulative = cumulative(probabilities[startRegime.ordinal()]);
+        double[] results = new double[runs];
+        IntStream.range(0, runs).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(seed + i);
+            int[] path = new int[horizon];
+            if (weather != null) {
+                weather.generate(startRegime, horizon, random, null, path);
+            } else {
+                for (int day = 0; day < horizon; day++) {
+                    path[day] = sampleIndex(cumulative, random.nextDouble());
+                }
+            }
+            ColonySimulator sim = new ColonySimulator(start);
+            for (int day = 0; day < horizon && !sim.isExtinct(); day++) {
+                sim.step(events[path[day]]);
+            }
+            results[i] = sim.isExtinct() ? 1 : 0;
+        });
+        return summarize("Naive Monte Carlo", results);
+    }
+
+    /**
+     * Importance sampling with a defensive mixture proposal. Each day the event is drawn
+     * from the normal distribution with probability 1 - alpha, and otherwise from a
+     * flattened distribution proportional to sqrt(p_i) * exp(tilt * harm_i), which makes
+     * rare events far more likely. alpha = boost / horizon, so a run sees about boost
+     * extra draws. Keeping the normal distribution in the mix bounds each day's
+     * likelihood ratio by 1 / (1 - alpha), so weights stay usable over long horizons.
+     *
+     * A tilt of 0 boosts rare good and bad events alike. That is the safer choice:
+     * extinction also comes from lucky capacity growth that pushes the colony into
+     * chaotic overshoot, which a proposal tilted only toward harm never samples.
+     * With weather, each regime gets its own proposal built the same way.
+     */
+    public Estimate importanceSampling(int runs, int horizon, double boost, double tilt, long seed) {
+        double alpha = Math.min(0.5, boost / Math.max(1, horizon));
+        double[][] cumulative = new double[probabilities.length][];
+        double[][] logRatio = new double[probabilities.length][];
+        for (int regime = 0; regime < probabilities.length; regime++) {
+            double[] p = probabilities[regime];
+            double[] rare = new double[p.length];
+            double rareTotal = 0;
+            for (int i = 0; i < rare.length; i++) {
+                rare[i] = Math.sqrt(p[i]) * Math.exp(tilt * harm[i]);
+                rareTotal += rare[i];
+            }
+            double[] proposal = new double[p.length];
+            logRatio[regime] = new double[p.length];
+            for (int i = 0; i < proposal.length; i++) {
+                proposal[i] = (1 - alpha) * p[i] + alpha * rare[i] / rareTotal;
+                logRatio[regime][i] = Math.log(p[i] / proposal[i]);
+            }
+            cumulative[regime] = cumulative(proposal);
+        }
+
+        double[] results = new double[runs];
+        IntStream.range(0, runs).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(seed + i);
+            ColonySimulator sim = new ColonySimulator(start);
+            WeatherModel.Regime regime = startRegime;
+            double logWeight = 0;
+            for (int day = 0; day < horizon && !sim.isExtinct(); day++) {
+                regime = nextRegime(regime, random);
+                int e = sampleIndex(cumulative[regime.ordinal()], random.nextDouble());
+                logWeight += logRatio[regime.ordinal()][e];
+                sim.step(events[e]);
+            }
+            results[i] = sim.isExtinct() ? Math.exp(logWeight) : 0;
+        });
+        return summarize(String.format("Importance (boost %.0f)", boost), results);
+    }
+
+    /**
+     * Fixed-effort multilevel splitting. Population levels are spaced geometrically
+     * between the starting population and the extinction threshold; at each level,
+     * runsPerLevel runs are restarted from the states that reached the previous one.
+     * The levels only follow the population, so this works well for gradual declines
+     * but has a large, understated variance when extinction comes from a sudden crash.
+     */
+    public Estimate multilevelSplitting(int runsPerLevel, int horizon, int levelCount, long seed) {
+        double x0 = Math.max(start.getPopulation(), AntColonyGame.EXTINCTION_THRESHOLD * 2);
+        double[] levels = new double[levelCount];
+        for (int k = 0; k < levelCount; k++) {
+            levels[k] = x0 * Math.pow(AntColonyGame.EXTINCTION_THRESHOLD / x0, (k + 1.0) / levelCount);
+        }
+
+        double[][] cumulative = new double[probabilities.length][];
+        for (int regime = 0; regime < probabilities.length; regime++) {
+            cumulative[regime] = cumulative(probabilities[regime]);
+        }
+        // A run's state is its colony and the regime it was in when it crossed the level
+        List<ColonySimulator> survivors = new ArrayList<>();
+        List<WeatherModel.Regime> survivorRegimes = new ArrayList<>();
+        survivors.add(start);
+        survivorRegimes.add(startRegime);
+        double probability = 1;
+        double relativeVariance = 0;
+
+        for (int k = 0; k < levelCount; k++) {
+            double level = levels[k];
+            List<ColonySimulator> parents = survivors;
+            List<WeatherModel.Regime> parentRegimes = survivorRegimes;
+            ColonySimulator[] reached = new ColonySimulator[runsPerLevel];
+            WeatherModel.Regime[] reachedRegimes = new WeatherModel.Regime[runsPerLevel];
+            long levelSeed = seed + (long) k * runsPerLevel;
+            IntStream.range(0, runsPerLevel).parallel().forEach(i -> {
+                SplittableRandom random = new SplittableRandom(levelSeed + i);
+                int parent = random.nextInt(parents.size());
+                ColonySimulator sim = new ColonySimulator(parents.get(parent));
+                WeatherModel.Regime regime = parentRegimes.get(parent);
+                int endDay = start.getDay() + horizon;
+                while (sim.getDay() < endDay && sim.getPopulation() >= level) {
+                    regime = nextRegime(regime, random);
+                    sim.step(events[sampleIndex(cumulative[regime.ordinal()], random.nextDouble())]);
+                }
+                reached[i] = sim.getPopulation() < level ? sim : null;
+                reachedRegimes[i] = regime;
+            });
+
+            survivors = new ArrayList<>();
+            survivorRegimes = new ArrayList<>();
+            for (int i = 0; i < runsPerLevel; i++) {
+                if (reached[i] != null) {
+                    survivors.add(reached[i]);
+                    survivorRegimes.add(reachedRegimes[i]);
+                }
+            }
+            double p = (double) survivors.size() / runsPerLevel;
+            if (p == 0) {
+                return new Estimate("Multilevel splitting", 0, 0, runsPerLevel * (k + 1));
+            }
+            probability *= p;
+            relativeVariance += (1 - p) / (p * runsPerLevel);
+        }
+        return new Estimate("Multilevel splitting", probability,
+            probability * Math.sqrt(relativeVariance), runsPerLevel * levelCount);
+    }
+
+    // ==================== HELPERS ====================
+
+    private WeatherModel.Regime nextRegime(WeatherModel.Regime regime, SplittableRandom random) {
+        return weather != null ? weather.nextRegime(regime, random.nextDouble()) : regime;
+    }
+
+    private static Estimate summarize(String method, double[] results) {
+        double sum = 0;
+        for (double v : results) sum += v;
+        double mean = sum / results.length;
+        double squares = 0;
+        for (double v : results) squares += (v - mean) * (v - mean);
+        double variance = results.length > 1 ? squares / (results.length - 1) : 0;
+        return new Estimate(method, mean, Math.sqrt(variance / results.length), results.length);
+    }
+
+    static double[] cumulative(double[] probabilities) {
+        double[] cumulative = new double[probabilities.length];
+        double sum = 0;
+        for (int i = 0; i < probabilities.length; i++) {
+            sum += probabilities[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    static int sampleIndex(double[] cumulative, double u) {
+        double target = u * cumulative[cumulative.length - 1];
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target < cumulative[i]) return i;
+        }
+        return cumulative.length - 1;
+    }
+}
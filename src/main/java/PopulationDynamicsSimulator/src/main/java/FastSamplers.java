@@ -0,0 +1,129 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.SplittableRandom;
+
+/**
+ * Poisson and binomial random variates in constant expected time, whatever the
+ * mean. Large means use Hörmann's transformed rejection samplers (PTRS for Poisson,
+ * BTRD for binomial); small means use inversion, which is faster there.
+ *
+ * W. Hörmann, "The transformed rejection method for generating Poisson random
+ * variables" (1993) and "The generation of binomial random variates" (1993).
+ */
+public final class FastSamplers {
+    private static final double HALF_LOG_2PI = 0.5 * Math.log(2 * Math.PI);
+
+    // log(k!) - [0.5 log(2 pi) + (k + 0.5) log(k + 1) - (k + 1)] for k = 0..9
+    private static final double[] STIRLING_TAIL = {
+        0.08106146679532726, 0.04134069595540929, 0.02767792568499834,
+        0.02079067210376509, 0.01664469118982119, 0.01387612882307075,
+        0.01189670994589177, 0.01041126526197209, 0.009255462182712733,
+        0.008330563433362871
+    };
+
+    private FastSamplers() { }
+
+    // ==================== POISSON ====================
+
+    public static long poisson(double mean, SplittableRandom random) {
+        if (mean <= 0) return 0;
+        return mean < 10 ? poissonInversion(mean, random) : poissonPtrs(mean, random);
+    }
+
+    private static long poissonInversion(double mean, SplittableRandom random) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        long k = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            k++;
+        }
+        return k;
+    }
+
+    private static long poissonPtrs(double mean, SplittableRandom random) {
+        double sqrtMean = Math.sqrt(mean);
+        double logMean = Math.log(mean);
+        double b = 0.931 + 2.53 * sqrtMean;
+        double a = -0.059 + 0.02483 * b;
+        double logInvAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        double vr = 0.9277 - 3.6224 / (b - 2);
+
+        while (true) {
+            double u = random.nextDouble() - 0.5;
+            double v = random.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) return k;
+            if (k < 0 || (us < 0.013 && v > us)) continue;
+            double lhs = Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b);
+            if (lhs <= -mean + k * logMean - logFactorial(k)) return k;
+        }
+    }
+
+    // ==================== BINOMIAL ====================
+
+    public static long binomial(long n, double p, SplittableRandom random) {
+        if (n <= 0 || p <= 0) return 0;
+        if (p >= 1) return n;
+        if (p > 0.5) return n - binomial(n, 1 - p, random);
+        return n * p < 10 ? binomialInversion(n, p, random) : binomialBtrd(n, p, random);
+    }
+
+    private static long binomialInversion(long n, double p, SplittableRandom random) {
+        double q = 1 - p;
+        double s = p / q;
+        double a = (n + 1) * s;
+        double r = Math.pow(q, n);
+        double u = random.nextDouble();
+        long k = 0;
+        while (u > r && k < n) {
+            u -= r;
+            k++;
+            r *= a / k - s;
+        }
+        return k;
+    }
+
+    private static long binomialBtrd(long n, double p, SplittableRandom random) {
+        double q = 1 - p;
+        double spq = Math.sqrt(n * p * q);
+        double b = 1.15 + 2.53 * spq;
+        double a = -0.0873 + 0.0248 * b + 0.01 * p;
+        double c = n * p + 0.5;
+        double vr = 0.92 - 4.2 / b;
+        double ratio = p / q;
+        double alpha = (2.83 + 5.1 / b) * spq;
+        long m = (long) Math.floor((n + 1) * p);
+
+        while (true) {
+            double u = random.nextDouble() - 0.5;
+            double v = random.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            long k = (long) Math.floor((2 * a / us + b) * u + c);
+            if (k < 0 || k > n) continue;
+            if (us >= 0.07 && v <= vr) return k;
+
+            v = Math.log(v * alpha / (a / (us * us) + b));
+            double bound = (m + 0.5) * Math.log((m + 1) / (ratio * (n - m + 1)))
+                + (n + 1) * Math.log((double) (n - m + 1) / (n - k + 1))
+                + (k + 0.5) * Math.log(ratio * (n - k + 1) / (k + 1))
+                + stirlingTail(m) + stirlingTail(n - m) - stirlingTail(k) - stirlingTail(n - k);
+            if (v <= bound) return k;
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    /** Error of Stirling's approximation to log(k!). */
+    private static double stirlingTail(long k) {
+        if (k < STIRLING_TAIL.length) return STIRLING_TAIL[(int) k];
+        double kp1 = k + 1.0;
+        double kp1sq = kp1 * kp1;
+        return (1.0 / 12 - (1.0 / 360 - 1.0 / 1260 / kp1sq) / kp1sq) / kp1;
+    }
+
+    static double logFactorial(long k) {
+        return HALF_LOG_2PI + (k + 0.5) * Math.log(k + 1.0) - (k + 1) + stirlingTail(k);
+    }
+}
@@ -0,0 +1,99 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+/**
+ * Closed-form facts about the Allee map f(x) = x + r x (1 - x/K)(x/A - 1).
+ *
+ * The fixed points are 0, A and K, with
+ *   f'(0) = 1 - r,   f'(A) = 1 + r (1 - A/K),   f'(K) = 1 + r (1 - K/A).
+ * For 0 < A < K the threshold A is always unstable, and the capacity K is stable
+ * for 0 < r < 2A / (K - A), where f'(K) passes -1 and the first period doubling
+ * happens. f'(K) = 0 at half that r, where the fixed point is superstable.
+ *
+ * convergesToCapacity() turns this into a certificate sweeps can use instead of
+ * iterating to convergence: f' = 1 + r g(x) with g(x) = -3x^2/(AK) + 2x(1/A + 1/K) - 1,
+ * so the interval around K on which |f'| < 1 comes from two quadratic roots. On a
+ * symmetric interval inside it the map is a contraction with fixed point K, so an
+ * orbit that enters it provably converges to K.
+ */
+public final class FixedPointAnalysis {
+    // Keeps the trap strictly inside the |f'| < 1 interval, so the contraction factor is below 1
+    private static final double TRAP_MARGIN = 0.999;
+
+    private FixedPointAnalysis() { }
+
+    // ==================== FIXED POINTS ====================
+
+    public static double derivativeAtZero(double r) {
+        return 1 - r;
+    }
+
+    public static double derivativeAtThreshold(double r, double K, double A) {
+        return 1 + r * (1 - A / K);
+    }
+
+    public static double derivativeAtCapacity(double r, double K, double A) {
+        return 1 + r * (1 - K / A);
+    }
+
+    /**
+     * True when K is a stable fixed point at this r.
+     */
+    public static boolean isCapacityStable(double r, double K, double A) {
+        return Math.abs(derivativeAtCapacity(r, K, A)) < 1;
+    }
+
+    /**
+     * r at which K loses stability to a 2-cycle, 2A / (K - A). Infinite when A >= K,
+     * since K is then never the stable state.
+     */
+    public static double periodDoublingR(double K, double A) {
+        return A < K ? 2 * A / (K - A) : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * r at which f'(K) = 0, i.e. the fastest approach to K.
+     */
+    public static double superstableR(double K, double A) {
+        return A < K ? A / (K - A) : Double.POSITIVE_INFINITY;
+    }
+
+    // ==================== CONVERGENCE CERTIFICATE ====================
+
+    /**
+     * Half-width of an interval around K that the map sends into itself while
+     * contracting, or 0 if there is none (K unstable, or A >= K).
+     */
+    public static double trapRadius(double r, double K, double A) {
+        if (r <= 0 || A <= 0 || A >= K || r >= periodDoublingR(K, A)) return 0;
+        // Largest roots of g(x) = 0 and g(x) = -2/r: f' is in (-1, 1) strictly between them
+        double sum = K + A;
+        double lower = (sum + Math.sqrt(K * K - A * K + A * A)) / 3;
+        double upper = (sum + Math.sqrt(sum * sum - 3 * A * K * (1 - 2 / r))) / 3;
+        return TRAP_MARGIN * Math.min(K - lower, upper - K);
+    }
+
+    /**
+     * Iterates from x0 for at most maxIterations steps and returns the number of
+     * steps after which the orbit was inside the trap around K, so it provably
+     * converges to K. Returns -1 if it did not get there: K is not stable, the orbit
+     * dropped below A (extinction), or it needed more steps.
+     */
+    public static int stepsToCapacity(double x0, double r, double K, double A, int maxIterations) {
+        double radius = trapRadius(r, K, A);
+        if (radius <= 0) return -1;
+        double x = x0;
+        for (int n = 0; n <= maxIterations; n++) {
+            if (Math.abs(x - K) <= radius) return n;
+            if (x < A) return -1;
+            x = AntColonyGame.populationModel(x, r, K, A);
+        }
+        return -1;
+    }
+
+    /**
+     * True when the orbit from x0 provably converges to K within maxIterations steps.
+     */
+    public static boolean convergesToCapacity(double x0, double r, double K, double A, int maxIterations) {
+        return stepsToCapacity(x0, r, K, A, maxIterations) >= 0;
+    }
+}
@@ -13,4 +13,5 @@ public class GameFonts {
     public static final Font TINY = new Font("Comic Sans MS", Font.PLAIN, 10);
     public static final Font BUTTON = new Font("Comic Sans MS", Font.BOLD, 12);
     public static final Font ACTIONS = new Font("Ink Free", Font.BOLD, 20);
+    public static final Font TABLE = new Font(Font.MONOSPACED, Font.PLAIN, 12);
 }
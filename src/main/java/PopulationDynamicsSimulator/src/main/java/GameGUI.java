@@ -7,19 +7,36 @@ import java.awt.FlowLayout;
 import java.awt.GridLayout;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
+import javax.swing.ButtonGroup;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
+import javax.swing.JCheckBoxMenuItem;
+import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JRadioButtonMenuItem;
 import javax.swing.JScrollBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.SwingConstants;
+import javax.swing.SwingWorker;
 import javax.swing.Timer;
 
 /**
@@ -28,6 +45,9 @@ import javax.swing.Timer;
 public class GameGUI extends JFrame {
     
     private static final Color BACKGROUND_COLOR = new Color(0xEB9B6E);
+    // Older messages fall off the feed; -Dnews.capacity=N keeps more, -Dnews.log=FILE appends them there
+    private static final int NEWS_CAPACITY = Math.max(1, Integer.getInteger("news.capacity", 200));
+    private static final String NEWS_LOG_FILE = System.getProperty("news.log");
     
     private AntColonyGame game;
     private Timer animationTimer;
@@ -36,17 +56,30 @@ public class GameGUI extends JFrame {
     private JLabel statusLabel;
     private JLabel paramLabel;
     private JLabel techPointsLabel;
-    private JTextArea newsBar;
+    private JLabel advisorLabel;
+    private NewsLog newsLog;
+    private PrintStream newsSpill;  // Receives messages that fall off the feed, if news.log is set
+    private JList<String> newsBar;
     private GraphPanel historyPanel;
     private GraphPanel projectionPanel;
     private GraphPanel lyapunovPanel;
     private GraphPanel bifurcationPanel;
+    private CobwebPanel cobwebPanel;
+    private GraphPanel spectrumPanel;
     private MainDisplayPanel mainDisplayPanel;
     
+    // Two-parameter stability maps, kept for the session so their tile caches survive
+    private StabilityMapEngine thresholdMapEngine = new StabilityMapEngine(StabilityMapEngine.Mode.THRESHOLD);
+    private StabilityMapEngine capacityMapEngine = new StabilityMapEngine(StabilityMapEngine.Mode.CAPACITY);
+    
+    // Suggests the next action after every change, within a 50 ms search budget
+    private ActionAdvisor advisor = new ActionAdvisor(50);
+    
     public GameGUI(AntColonyGame game) {
         this.game = game;
         setupUI();
         startAnimation();
+        requestAdvice();
     }
     
     private void startAnimation() {
@@ -67,6 +100,7 @@ public class GameGUI extends JFrame {
         getContentPane().setBackground(BACKGROUND_COLOR);
         ((JPanel)getContentPane()).setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         
+        setJMenuBar(buildMenuBar());
         add(buildLeftPanel(), BorderLayout.WEST);
         add(buildCenterPanel(), BorderLayout.CENTER);
         
@@ -76,6 +110,59 @@ public class GameGUI extends JFrame {
     
     // ==================== PANEL BUILDERS ====================
     
+    private JMenuBar buildMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+        JMenu analysisMenu = new JMenu("Analysis");
+        
+        JMenuItem extinctionItem = new JMenuItem("Extinction Risk...");
+        extinctionItem.addActionListener(e -> showExtinctionRisk());
+        analysisMenu.add(extinctionItem);
+        
+        JMenuItem strategyItem = new JMenuItem("Optimize Strategy...");
+        strategyItem.addActionListener(e -> showStrategyOptimizer());
+        analysisMenu.add(strategyItem);
+        
+        JMenuItem sensitivityItem = new JMenuItem("Sensitivity Analysis...");
+        sensitivityItem.addActionListener(e -> showSensitivityAnalysis());
+        analysisMenu.add(sensitivityItem);
+        
+        analysisMenu.addSeparator();
+        JCheckBoxMenuItem metapopulationItem = new JCheckBoxMenuItem("Metapopulation View");
+        metapopulationItem.addActionListener(e -> {
+            game.setMetapopulationEnabled(metapopulationItem.isSelected());
+            metapopulationItem.setSelected(game.getMetapopulation() != null);
+            mainDisplayPanel.setMetapopulation(game.getMetapopulation());
+        });
+        analysisMenu.add(metapopulationItem);
+        
+        menuBar.add(analysisMenu);
+        
+        JMenu modelMenu = new JMenu("Model");
+        ButtonGroup modelGroup = new ButtonGroup();
+        Map<ModelVariant, JRadioButtonMenuItem> modelItems = new EnumMap<>(ModelVariant.class);
+        for (ModelVariant variant : ModelVariant.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem(variant.label, variant == game.getModelVariant());
+            item.addActionListener(e -> {
+                game.setModelVariant(variant);
+                // Switching is refused while fast-forwarding; keep the menu honest
+                modelItems.get(game.getModelVariant()).setSelected(true);
+            });
+            modelItems.put(variant, item);
+            modelGroup.add(item);
+            modelMenu.add(item);
+        }
+        
+        modelMenu.addSeparator();
+        JCheckBoxMenuItem weatherItem = new JCheckBoxMenuItem("Weather Seasons", game.isWeatherEnabled());
+        weatherItem.addActionListener(e -> {
+            game.setWeatherEnabled(weatherItem.isSelected());
+            weatherItem.setSelected(game.isWeatherEnabled());
+        });
+        modelMenu.add(weatherItem);
+        menuBar.add(modelMenu);
+        return menuBar;
+    }
+    
     private JPanel buildLeftPanel() {
         JPanel leftPanel = new JPanel(new BorderLayout(5, 5));
         leftPanel.setPreferredSize(new Dimension(250, 0));
@@ -115,16 +202,23 @@ public class GameGUI extends JFrame {
     }
     
     private JPanel buildNewsPanel() {
-        NewsPanel newsPanel = new NewsPanel();
+        newsLog = new NewsLog(NEWS_CAPACITY);
+        if (NEWS_LOG_FILE != null) {
+            try {
+                newsSpill = new PrintStream(new FileOutputStream(NEWS_LOG_FILE, true), true, StandardCharsets.UTF_8);
+                newsLog.setSpillLog(newsSpill);
+            } catch (IOException e) {
+                System.err.println("Could not open news log " + NEWS_LOG_FILE + ": " + e.getMessage());
+            }
+        }
+        newsLog.add("Welcome to Ant Colony Manager!\n\nPress 'New Day' to begin...");
+        
+        NewsPanel newsPanel = new NewsPanel(newsLog);
         newsPanel.setBackground(BACKGROUND_COLOR);
         newsPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
         
-        newsBar = newsPanel.getTextArea();
-        newsBar.setEditable(false);
-        newsBar.setLineWrap(true);
-        newsBar.setWrapStyleWord(true);
+        newsBar = newsPanel.getNewsList();
         newsBar.setFont(GameFonts.SMALL);
-        newsBar.setText("Welcome to Ant Colony Manager!\n\nPress 'New Day' to begin...");
         newsBar.setOpaque(false);
         newsBar.setForeground(Color.BLACK);
         
@@ -174,7 +268,7 @@ public class GameGUI extends JFrame {
         actionsLabelPanel.setOpaque(false);
         controlPanel.add(actionsLabelPanel, BorderLayout.NORTH);
         
-        JPanel buttonPanel = new JPanel(new GridLayout(6, 1, 5, 8));
+        JPanel buttonPanel = new JPanel(new GridLayout(7, 1, 5, 8));
         buttonPanel.setOpaque(false);
         buttonPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
         
@@ -204,6 +298,9 @@ public class GameGUI extends JFrame {
             "buttonlesschambers.png", false);
         destroyChambersButton.addActionListener(e -> game.destroyChambers());
         
+        JButton fastForwardButton = createActionButton("Fast Forward", "buttonnewday.png", true);
+        fastForwardButton.addActionListener(e -> promptFastForward());
+        
         JButton resetButton = createActionButton("Reset Game", "buttonreset.png", true);
         resetButton.addActionListener(e -> game.resetGame());
         
@@ -212,10 +309,17 @@ public class GameGUI extends JFrame {
         buttonPanel.add(layLessEggsButton);
         buttonPanel.add(buildChambersButton);
         buttonPanel.add(destroyChambersButton);
+        buttonPanel.add(fastForwardButton);
         buttonPanel.add(resetButton);
         
         controlPanel.add(buttonPanel, BorderLayout.CENTER);
         
+        advisorLabel = new JLabel("Advisor: thinking...", SwingConstants.CENTER);
+        advisorLabel.setFont(GameFonts.SMALL);
+        advisorLabel.setToolTipText("Suggested next action, from a short tree search over the next " 
+            + "days' random events");
+        controlPanel.add(advisorLabel, BorderLayout.SOUTH);
+        
         return controlPanel;
     }
     
@@ -234,20 +338,34 @@ public class GameGUI extends JFrame {
         centerPanel.add(mainDisplayPanel, BorderLayout.CENTER);
         
         // Graphs panel
-        JPanel graphsPanel = new JPanel(new GridLayout(2, 2, 10, 10));
+        JPanel graphsPanel = new JPanel(new GridLayout(3, 2, 10, 10));
         graphsPanel.setPreferredSize(new Dimension(600, 600));
         graphsPanel.setOpaque(false);
         graphsPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
         
         historyPanel = new GraphPanel("Population History", Color.BLUE);
+        historyPanel.setIncremental(true);
         projectionPanel = new GraphPanel("Population Projection", Color.GREEN);
         lyapunovPanel = new GraphPanel("Lyapunov Exponent", Color.RED);
         bifurcationPanel = new GraphPanel("Bifurcation Diagram (r)", Color.MAGENTA);
+        cobwebPanel = new CobwebPanel();
+        spectrumPanel = new GraphPanel("Power Spectrum (log10, cycles/day)", Color.DARK_GRAY);
+        
+        lyapunovPanel.addDialogTab("Stability Map (r, A)", 
+            () -> new StabilityMapPanel(thresholdMapEngine, game.getR(), game.getK(), game.getA()));
+        lyapunovPanel.addDialogTab("Stability Map (r, K)", 
+            () -> new StabilityMapPanel(capacityMapEngine, game.getR(), game.getK(), game.getA()));
+        historyPanel.addDialogTab("Recurrence Plot", 
+            () -> new RecurrencePlotPanel(game.getPopulationHistory()));
+        bifurcationPanel.addDialogTab("Basin of Attraction (x0, r)", 
+            () -> new BasinMapPanel(game.getR(), game.getPopulation(), game.getK(), game.getA()));
         
         graphsPanel.add(historyPanel);
         graphsPanel.add(projectionPanel);
         graphsPanel.add(lyapunovPanel);
         graphsPanel.add(bifurcationPanel);
+        graphsPanel.add(cobwebPanel);
+        graphsPanel.add(spectrumPanel);
         
         centerPanel.add(graphsPanel, BorderLayout.EAST);
         
@@ -320,7 +438,7 @@ public class GameGUI extends JFrame {
             "Nanny Ants",
             () -> {
                 if (game.deductTechnologyPoints(-1)) {
-                    game.setA(game.getA() + (game.getK() * 0.05) );
+                    game.setA(game.getA() + (game.getK() * game.getNannyAntsKFraction()) );
                     updateStatus();
                 }
             }
@@ -333,7 +451,7 @@ public class GameGUI extends JFrame {
             "Cull",
             () -> {
                 if (game.deductTechnologyPoints(-1)) {
-                    game.setX(game.getPopulation() * 0.5);
+                    game.setX(game.getPopulation() * game.getCullPopulationMultiplier());
                     updateStatus();
                 }
             }
@@ -346,7 +464,7 @@ public class GameGUI extends JFrame {
             "Breeding Frenzy",
             () -> {
                 if (game.deductTechnologyPoints(-1)) {
-                    game.setR(game.getR() * 2.5);
+                    game.setR(game.getR() * game.getBreedingFrenzyRMultiplier());
                     updateStatus();
                 }
             }
@@ -441,6 +559,173 @@ public class GameGUI extends JFrame {
         return button;
     }
     
+    /**
+     * Asks how many days to simulate and starts a fast-forward run.
+     */
+    private void promptFastForward() {
+        if (game.isFastForwarding()) return;
+        
+        String input = JOptionPane.showInputDialog(this, "How many days should pass?", "100");
+        if (input == null) return;
+        try {
+            int days = Integer.parseInt(input.trim());
+            if (days > 0) {
+                game.fastForward(days);
+            }
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(this, "Please enter a whole number of days.", 
+                "Fast Forward", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+    
+    /**
+     * Estimates the chance the colony dies out within the next 100 days, from its
+     * current state, in the background. Naive Monte Carlo is shown alongside the
+     * importance-sampling and splitting estimates so they can be compared.
+     */
+    private void showExtinctionRisk() {
+        int horizon = 100;
+        ColonySimulator start = new ColonySimulator(game.getPopulation(), game.getR(), game.getK(),
+            game.getA(), game.getCurrentDay(), null);
+        ExtinctionEstimator estimator = new ExtinctionEstimator(game.createEventPool(), start);
+        long seed = System.nanoTime();
+        
+        new SwingWorker<List<ExtinctionEstimator.Estimate>, Void>() {
+            @Override
+            protected List<ExtinctionEstimator.Estimate> doInBackground() {
+                return List.of(
+                    estimator.naive(20000, horizon, seed),
+                    estimator.importanceSampling(20000, horizon, 4, 0, seed),
+                    estimator.multilevelSplitting(4000, horizon, 5, seed));
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    StringBuilder text = new StringBuilder(String.format(
+                        "Probability of extinction within %d days:%n%n", horizon));
+                    for (ExtinctionEstimator.Estimate estimate : get()) {
+                        text.append(String.format("%s: %.2e  (95%% CI %.2e to %.2e, %d runs)%n",
+                            estimate.method, estimate.probability, estimate.lower(), estimate.upper(), estimate.runs));
+                    }
+                    JOptionPane.showMessageDialog(GameGUI.this, text.toString(), 
+                        "Extinction Risk", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(GameGUI.this, "Extinction estimate failed: " + cause.getMessage(), 
+                        "Extinction Risk", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Searches for the action schedule that does best over the next 100 days, deciding
+     * every 10 days, and shows the top schedules next to doing nothing.
+     */
+    private void showStrategyOptimizer() {
+        StrategyOptimizer.Objective[] objectives = StrategyOptimizer.Objective.values();
+        String[] options = { "Maximize Survival", "Maximize Final Population" };
+        int choice = JOptionPane.showOptionDialog(this, "What should the strategy aim for?", 
+            "Optimize Strategy", JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, 
+            null, options, options[0]);
+        if (choice < 0) return;
+        
+        int horizon = 100;
+        int decisionInterval = 10;
+        ColonySimulator start = new ColonySimulator(game.getPopulation(), game.getR(), game.getK(),
+            game.getA(), game.getCurrentDay(), null);
+        long seed = System.nanoTime();
+        StrategyOptimizer optimizer = new StrategyOptimizer(start, game.createEventPool(), 
+            ColonyAction.Effects.from(game), horizon, decisionInterval, 500, objectives[choice], seed);
+        
+        new SwingWorker<String, Void>() {
+            @Override
+            protected String doInBackground() {
+                ColonyAction[] wait = new ColonyAction[horizon / decisionInterval];
+                Arrays.fill(wait, ColonyAction.NONE);
+                StringBuilder text = new StringBuilder("Doing nothing: " + optimizer.evaluate(wait) + "\n\n");
+                int rank = 1;
+                for (StrategyOptimizer.Result result : optimizer.optimize(30, 3, seed)) {
+                    text.append(rank++).append(". ").append(result).append("\n\n");
+                }
+                return text.toString();
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    String text = get();
+                    JTextArea area = new JTextArea(text, 12, 60);
+                    area.setLineWrap(true);
+                    area.setWrapStyleWord(true);
+                    area.setEditable(false);
+                    JOptionPane.showMessageDialog(GameGUI.this, new JScrollPane(area), 
+                        "Best Strategies (" + objectives[choice].label + ")", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    JOptionPane.showMessageDialog(GameGUI.this, "Strategy search failed: " + cause.getMessage(), 
+                        "Optimize Strategy", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Measures how much the action multipliers and event weights drive extinction
+     * risk and final population over the next 100 days, from the current state. The
+     * table fills in while the analysis runs.
+     */
+    private void showSensitivityAnalysis() {
+        String[] options = { "Quick Screening (Morris)", "Full Analysis (Sobol)" };
+        int choice = JOptionPane.showOptionDialog(this, "Which analysis should run?", 
+            "Sensitivity Analysis", JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, 
+            null, options, options[0]);
+        if (choice < 0) return;
+        
+        ColonySimulator start = new ColonySimulator(game.getPopulation(), game.getR(), game.getK(),
+            game.getA(), game.getCurrentDay(), null);
+        SensitivityAnalysis analysis = new SensitivityAnalysis(start, game.createEventPool(), 
+            ColonyAction.Effects.from(game), 100, 10, 16);
+        long seed = System.nanoTime();
+        
+        JTextArea area = new JTextArea("Running...", 30, 75);
+        area.setFont(GameFonts.TABLE);
+        area.setEditable(false);
+        JDialog dialog = new JDialog(this, "Sensitivity Analysis (" + options[choice] + ")", false);
+        dialog.add(new JScrollPane(area));
+        dialog.pack();
+        dialog.setLocationRelativeTo(this);
+        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        dialog.setVisible(true);
+        
+        new SwingWorker<String, String>() {
+            @Override
+            protected String doInBackground() {
+                Object result = choice == 0
+                    ? analysis.morris(512, seed, effects -> publish(effects.toString()))
+                    : analysis.sobol(2048, seed, indices -> publish(indices.toString()));
+                return result.toString();
+            }
+            
+            @Override
+            protected void process(List<String> chunks) {
+                area.setText(chunks.get(chunks.size() - 1));
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    area.setText(get());
+                    area.setCaretPosition(0);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    area.setText("Sensitivity analysis failed: " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+    
     /**
      * Creates a technology button with image background and centered text overlay.
      * Button size: 110x90 pixels.
@@ -488,22 +773,58 @@ public class GameGUI extends JFrame {
     // ==================== PUBLIC API ====================
     
     public void updateStatus() {
-        statusLabel.setText(String.format("<html><b>Day %d</b><br>Population: %.2f ants</html>", 
-            game.getCurrentDay(), game.getPopulation()));
+        WeatherModel.Regime regime = game.getWeatherRegime();
+        String day = String.format("<b>Day %d</b>%s", game.getCurrentDay(), 
+            regime != null ? "<br>Weather: " + regime.label : "");
+        StageStructuredColony stages = game.getStageColony();
+        if (stages != null) {
+            statusLabel.setText(String.format("<html>%s<br>Workers: %.2f ants<br>"
+                + "Brood: %.1f eggs, %.1f larvae, %.1f pupae</html>",
+                day, game.getPopulation(), stages.getStage(0, StageStructuredColony.EGGS),
+                stages.getStage(0, StageStructuredColony.LARVAE), stages.getStage(0, StageStructuredColony.PUPAE)));
+        } else {
+            statusLabel.setText(String.format("<html>%s<br>Population: %.2f ants</html>", 
+                day, game.getPopulation()));
+        }
         paramLabel.setText(String.format("<html>r=%.3f<br>K=%.2f<br>A=%.2f</html>", 
             game.getR(), game.getK(), game.getA()));
         techPointsLabel.setText(String.format("<html><b>Tech Points: %d</b></html>", 
             game.getTechnologyPoints()));
         
         int antCount = (int) Math.round(game.getPopulation());
-        mainDisplayPanel.updateAnts(antCount);
+        AgentColony agents = game.getAgentColony();
+        if (agents != null) {
+            byte[] roles = new byte[antCount];
+            mainDisplayPanel.updateAnts(antCount, roles, agents.sampleRoles(roles));
+        } else {
+            mainDisplayPanel.updateAnts(antCount);
+        }
+        
+        requestAdvice();
+    }
+    
+    private void requestAdvice() {
+        if (game.isFastForwarding()) {
+            advisor.cancel();
+            advisorLabel.setText("Advisor: waiting for fast forward");
+            return;
+        }
+        if (game.getPopulation() < AntColonyGame.EXTINCTION_THRESHOLD) {
+            advisor.cancel();
+            advisorLabel.setText("Advisor: the colony is extinct");
+            return;
+        }
+        ColonySimulator state = new ColonySimulator(game.getPopulation(), game.getR(), game.getK(),
+            game.getA(), game.getCurrentDay(), null);
+        advisor.requestAdvice(state, game.createEventPool(), ColonyAction.Effects.from(game), advice -> 
+            advisorLabel.setText(String.format("<html><center>Advisor: <b>%s</b><br>(%.0f%% survive 30 days)</center></html>",
+                advice.action.label, advice.survival * 100)));
     }
     
     public void addNewsMessage(String message) {
-        String currentText = newsBar.getText();
         String dayPrefix = "Day " + game.getCurrentDay() + ": ";
-        newsBar.setText(dayPrefix + message + "\n\n" + currentText);
-        newsBar.setCaretPosition(0);
+        newsLog.add(dayPrefix + message);
+        newsBar.ensureIndexIsVisible(0);
     }
     
     public void updateHistoryGraph(List<AntColonyGame.Point2D> data) {
@@ -514,12 +835,28 @@ public class GameGUI extends JFrame {
         projectionPanel.setData(data, true);
     }
     
-    public void updateLyapunovGraph(List<AntColonyGame.Point2D> data) {
+    public void updateCobwebGraph(double r, double K, double A, double x, List<AntColonyGame.Point2D> history) {
+        cobwebPanel.setData(r, K, A, x, history);
+    }
+    
+    public void updateSpectrumGraph(List<AntColonyGame.Point2D> data, List<GraphPanel.Marker> markers) {
+        spectrumPanel.setData(data);
+        spectrumPanel.setMarkers(markers);
+    }
+    
+    public void updateLyapunovGraph(List<AntColonyGame.Point2D> data, List<GraphPanel.Marker> markers) {
         lyapunovPanel.setData(data);
+        lyapunovPanel.setMarkers(markers);
     }
     
-    public void updateBifurcationGraph(List<AntColonyGame.Point2D> data) {
+    /**
+     * @param sweepSummary how the sweep was sampled, shown as the graph's tooltip
+     */
+    public void updateBifurcationGraph(List<AntColonyGame.Point2D> data, List<GraphPanel.Marker> markers,
+                                       String sweepSummary) {
         bifurcationPanel.setData(data);
+        bifurcationPanel.setMarkers(markers);
+        bifurcationPanel.setToolTipText(sweepSummary);
     }
     
     @Override
@@ -527,6 +864,10 @@ public class GameGUI extends JFrame {
         if (animationTimer != null) {
             animationTimer.stop();
         }
+        if (newsSpill != null) {
+            newsSpill.close();
+            newsSpill = null;
+        }
         super.dispose();
     }
 }
@@ -7,13 +7,19 @@ import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.Stroke;
 import java.awt.Window;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import javax.swing.BorderFactory;
 import javax.swing.JDialog;
+import javax.swing.JComponent;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
 import javax.swing.SwingUtilities;
 
 /**
@@ -24,6 +30,20 @@ public class GraphPanel extends JPanel {
     private Color plotColor;
     private List<AntColonyGame.Point2D> data;
     private boolean markFirstPoint;
+    private List<Marker> markers = new ArrayList<>();
+    
+    // Extra views shown as tabs next to the zoomable graph in the popup window
+    private List<String> dialogTabNames = new ArrayList<>();
+    private List<Supplier<JComponent>> dialogTabFactories = new ArrayList<>();
+    
+    // Incremental rendering state (append-only data such as the population history)
+    private static final double AXIS_GROWTH = 1.5;  // Headroom added whenever the axes rescale
+    private boolean incremental;
+    private BufferedImage plotCache;
+    private List<AntColonyGame.Point2D> cachedData;
+    private int renderedCount;
+    private double axisMaxX, axisMaxY;
+    private double dataMaxX, dataMaxY;
     
     public GraphPanel(String title, Color plotColor) {
         this.title = title;
@@ -46,10 +66,31 @@ public class GraphPanel extends JPanel {
         JDialog graphDialog = new JDialog(parent instanceof JFrame ? (JFrame) parent : null, title, false);
         graphDialog.setSize(800, 600);
         graphDialog.setLocationRelativeTo(parent);
-        graphDialog.add(new ZoomableGraphPanel(title, plotColor, data, markFirstPoint));
+        ZoomableGraphPanel zoomablePanel = new ZoomableGraphPanel(title, plotColor, data, markFirstPoint);
+        zoomablePanel.setMarkers(markers);
+        if (dialogTabNames.isEmpty()) {
+            graphDialog.add(zoomablePanel);
+        } else {
+            JTabbedPane tabs = new JTabbedPane();
+            tabs.setFont(GameFonts.SMALL);
+            tabs.addTab(title, zoomablePanel);
+            for (int i = 0; i < dialogTabNames.size(); i++) {
+                tabs.addTab(dialogTabNames.get(i), dialogTabFactories.get(i).get());
+            }
+            graphDialog.add(tabs);
+        }
         graphDialog.setVisible(true);
     }
     
+    /**
+     * Adds an extra view to this graph's popup window. The factory is called each
+     * time the window opens, so the view reflects the game state at that moment.
+     */
+    public void addDialogTab(String name, Supplier<JComponent> factory) {
+        dialogTabNames.add(name);
+        dialogTabFactories.add(factory);
+    }
+    
     public void setData(List<AntColonyGame.Point2D> data) {
         setData(data, false);
     }
@@ -60,6 +101,24 @@ public class GraphPanel extends JPanel {
         repaint();
     }
     
+    /**
+     * Enables append-only rendering. The data list must only ever grow; pass a new
+     * list instance to start over.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        plotCache = null;
+        repaint();
+    }
+    
+    /**
+     * Sets the labelled vertical lines drawn over the data, e.g. exact bifurcation points.
+     */
+    public void setMarkers(List<Marker> markers) {
+        this.markers = markers;
+        repaint();
+    }
+    
     public String getTitle() { return title; }
     public Color getPlotColor() { return plotColor; }
     public List<AntColonyGame.Point2D> getData() { return data; }
@@ -83,6 +142,11 @@ public class GraphPanel extends JPanel {
         
         if (data == null || data.isEmpty()) return;
         
+        if (incremental) {
+            paintIncremental(g2, width, height, margin);
+            return;
+        }
+        
         // Calculate bounds
         double minX = Double.MAX_VALUE, maxX = -Double.MAX_VALUE;
         double minY = Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
@@ -154,6 +218,14 @@ public class GraphPanel extends JPanel {
             g2.fillOval(x - 1, y - 1, 2, 2);
         }
         
+        // Draw vertical markers
+        g2.setFont(GameFonts.TINY);
+        for (Marker marker : markers) {
+            if (marker.x < minX || marker.x > maxX) continue;
+            int x = margin + (int) ((marker.x - minX) / (maxX - minX) * plotWidth);
+            marker.draw(g2, x, margin, height - margin);
+        }
+        
         // Draw "you are here" marker
         if (markFirstPoint && !data.isEmpty()) {
             AntColonyGame.Point2D p = data.get(0);
@@ -167,4 +239,103 @@ public class GraphPanel extends JPanel {
             g2.drawOval(x - 5, y - 5, 10, 10);
         }
     }
+    
+    // ==================== INNER CLASS: Marker ====================
+    
+    /**
+     * A labelled vertical line at a given x.
+     */
+    public static class Marker {
+        private static final Color COLOR = new Color(90, 90, 90);
+        private static final BasicStroke DASHED = new BasicStroke(1, BasicStroke.CAP_BUTT,
+            BasicStroke.JOIN_MITER, 10, new float[] {4, 4}, 0);
+        
+        public final double x;
+        public final String label;
+        
+        public Marker(double x, String label) {
+            this.x = x;
+            this.label = label;
+        }
+        
+        /** Draws the line at screen column px between top and bottom, with the label at the top. */
+        void draw(Graphics2D g2, int px, int top, int bottom) {
+            Stroke oldStroke = g2.getStroke();
+            g2.setColor(COLOR);
+            g2.setStroke(DASHED);
+            g2.drawLine(px, top, px, bottom);
+            g2.setStroke(oldStroke);
+            g2.drawString(label, px + 3, top + g2.getFontMetrics().getAscent());
+        }
+    }
+    
+    // ==================== INCREMENTAL RENDERING ====================
+    
+    /**
+     * Draws append-only data from a cached image, adding only the segments appended
+     * since the last paint. Axes start at 0 and grow geometrically, so the full redraw
+     * only happens when the data outgrows them, the panel is resized, or the list is replaced.
+     */
+    private void paintIncremental(Graphics2D g2, int width, int height, int margin) {
+        int plotWidth = width - 2 * margin;
+        int plotHeight = height - 2 * margin;
+        
+        boolean fullRedraw = plotCache == null || data != cachedData || data.size() < renderedCount
+            || plotCache.getWidth() != width || plotCache.getHeight() != height;
+        if (fullRedraw) {
+            dataMaxX = 0;
+            dataMaxY = 0;
+            renderedCount = 0;
+        }
+        
+        // Running bounds over the newly appended points only
+        for (int i = renderedCount; i < data.size(); i++) {
+            AntColonyGame.Point2D p = data.get(i);
+            dataMaxX = Math.max(dataMaxX, p.x);
+            dataMaxY = Math.max(dataMaxY, p.y);
+        }
+        double neededX = Math.max(dataMaxX, 1) * 1.05;
+        double neededY = Math.max(dataMaxY, 1) * 1.05;
+        if (fullRedraw || neededX > axisMaxX || neededY > axisMaxY) {
+            axisMaxX = neededX * AXIS_GROWTH;
+            axisMaxY = neededY * AXIS_GROWTH;
+            fullRedraw = true;
+        }
+        
+        if (fullRedraw) {
+            plotCache = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            cachedData = data;
+            renderedCount = 0;
+        }
+        
+        if (renderedCount < data.size()) {
+            Graphics2D cg = plotCache.createGraphics();
+            cg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            cg.setColor(plotColor);
+            for (int i = Math.max(1, renderedCount); i < data.size(); i++) {
+                AntColonyGame.Point2D p1 = data.get(i - 1);
+                AntColonyGame.Point2D p2 = data.get(i);
+                int x1 = margin + (int) (p1.x / axisMaxX * plotWidth);
+                int y1 = height - margin - (int) (p1.y / axisMaxY * plotHeight);
+                int x2 = margin + (int) (p2.x / axisMaxX * plotWidth);
+                int y2 = height - margin - (int) (p2.y / axisMaxY * plotHeight);
+                cg.drawLine(x1, y1, x2, y2);
+            }
+            cg.dispose();
+            renderedCount = data.size();
+        }
+        
+        // Axes and labels are cheap, so they are drawn fresh on top of the cache
+        g2.setColor(Color.GRAY);
+        g2.drawLine(margin, height - margin, width - margin, height - margin);
+        g2.drawLine(margin, margin, margin, height - margin);
+        
+        g2.setFont(GameFonts.TINY);
+        g2.drawString(String.format("%.1f", 0.0), margin - 15, height - margin + 12);
+        g2.drawString(String.format("%.1f", axisMaxX), width - margin - 15, height - margin + 12);
+        g2.drawString(String.format("%.1f", 0.0), 3, height - margin);
+        g2.drawString(String.format("%.1f", axisMaxY), 3, margin + 5);
+        
+        g2.drawImage(plotCache, 0, 0, null);
+    }
 }
@@ -0,0 +1,115 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.Timer;
+
+/**
+ * Dependency-aware invalidation for the analysis graphs. Each graph declares the
+ * model inputs it reads; changing an input only marks the graphs that depend on it
+ * as dirty, and dirty graphs are recomputed once per frame no matter how many
+ * changes arrived in between.
+ */
+public class GraphUpdateScheduler {
+
+    /**
+     * Model state a graph can depend on.
+     */
+    public enum Input {
+        HISTORY,      // Population history list
+        POPULATION,   // Current population x
+        DAY,          // Current day counter
+        GROWTH_RATE,  // r
+        CAPACITY,     // K
+        THRESHOLD,    // A
+        MODEL         // Active model variant
+    }
+
+    private static final int FRAME_MILLIS = 33;  // Matches the animation timer
+
+    private final List<GraphEntry> graphs;
+    private final Timer flushTimer;
+
+    // ==================== INNER CLASS: GraphEntry ====================
+
+    private static class GraphEntry {
+        final String name;
+        final Set<Input> inputs;
+        final Runnable recompute;
+        boolean dirty;
+
+        GraphEntry(String name, Set<Input> inputs, Runnable recompute) {
+            this.name = name;
+            this.inputs = inputs;
+            this.recompute = recompute;
+        }
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    public GraphUpdateScheduler() {
+        graphs = new ArrayList<>();
+        flushTimer = new Timer(FRAME_MILLIS, e -> flush());
+        flushTimer.setRepeats(false);
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Registers a graph with the inputs it depends on. New graphs start dirty.
+     */
+    public void register(String name, Set<Input> inputs, Runnable recompute) {
+        GraphEntry entry = new GraphEntry(name, EnumSet.copyOf(inputs), recompute);
+        entry.dirty = true;
+        graphs.add(entry);
+    }
+
+    /**
+     * Marks every graph that reads any of the changed inputs as dirty and schedules
+     * a recomputation at the end of the current frame.
+     */
+    public void invalidate(Input... changed) {
+        boolean anyDirty = false;
+        for (GraphEntry graph : graphs) {
+            for (Input input : changed) {
+                if (graph.inputs.contains(input)) {
+                    graph.dirty = true;
+                    break;
+                }
+            }
+            anyDirty |= graph.dirty;
+        }
+        if (anyDirty && !flushTimer.isRunning()) {
+            flushTimer.start();
+        }
+    }
+
+    public void invalidateAll() {
+        invalidate(Input.values());
+    }
+
+    /**
+     * Recomputes all dirty graphs right away.
+     */
+    public void flush() {
+        flushTimer.stop();
+        for (GraphEntry graph : graphs) {
+            if (graph.dirty) {
+                graph.dirty = false;
+                graph.recompute.run();
+            }
+        }
+    }
+
+    public boolean isDirty(String name) {
+        for (GraphEntry graph : graphs) {
+            if (graph.name.equals(name)) {
+                return graph.dirty;
+            }
+        }
+        return false;
+    }
+}
@@ -43,4 +43,18 @@ public class ImageLoader {
         System.err.println("Could not find " + imageName);
         return null;
     }
+    
+    /**
+     * First readable file with this name in the resource folders, or null. Used for
+     * other resources (such as the event table) so they are found wherever images are.
+     */
+    public static File locate(String fileName) {
+        for (String basePath : PATHS) {
+            File file = new File(basePath + fileName);
+            if (file.isFile() && file.canRead()) {
+                return file;
+            }
+        }
+        return null;
+    }
 }
@@ -4,6 +4,7 @@ import java.awt.Color;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 
@@ -18,6 +19,13 @@ public class MainDisplayPanel extends JPanel {
     private AntRenderer antRenderer;
     private double imageScaleFactor = 0.2;
     
+    // Metapopulation heatmap, shown instead of the ants while the mode is on
+    private MetapopulationEngine metapopulation;
+    private BufferedImage heatmapImage;
+    private int[] heatmapPixels;
+    private int heatmapDay = -1;
+    private String heatmapSummary;
+    
     public MainDisplayPanel() {
         setBackground(new Color(245, 222, 179));
         setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
@@ -33,6 +41,26 @@ public class MainDisplayPanel extends JPanel {
         repaint();
     }
     
+    /**
+     * Like updateAnts, but each displayed ant also takes the role of a sampled
+     * individual from the agent-based model.
+     */
+    public void updateAnts(int population, byte[] roles, int roleCount) {
+        updateAnts(population);
+        antRenderer.assignRoles(roles, roleCount);
+    }
+    
+    /**
+     * Shows the given lattice as a heatmap, or the ants again when null.
+     */
+    public void setMetapopulation(MetapopulationEngine engine) {
+        metapopulation = engine;
+        heatmapImage = null;
+        heatmapPixels = null;
+        heatmapDay = -1;
+        repaint();
+    }
+    
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -40,6 +68,11 @@ public class MainDisplayPanel extends JPanel {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
         
+        if (metapopulation != null) {
+            paintHeatmap(g2);
+            return;
+        }
+        
         antRenderer.renderAnts(g2);
         
         if (queenImage != null) {
@@ -56,4 +89,35 @@ public class MainDisplayPanel extends JPanel {
             g2.drawString(msg, (getWidth() - fm.stringWidth(msg)) / 2, getHeight() / 2);
         }
     }
+    
+    private void paintHeatmap(Graphics2D g2) {
+        int width = metapopulation.getWidth();
+        int height = metapopulation.getHeight();
+        if (heatmapImage == null) {
+            heatmapImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            heatmapPixels = new int[width * height];
+        }
+        // Only re-render when the lattice has moved on; the panel repaints every frame
+        if (heatmapDay != metapopulation.getDay()) {
+            heatmapDay = metapopulation.getDay();
+            metapopulation.renderHeatmap(heatmapPixels);
+            heatmapImage.setRGB(0, 0, width, height, heatmapPixels, 0, width);
+            heatmapSummary = String.format("%d colonies  |  %.1f%% occupied  |  %.3g ants", 
+                width * height, metapopulation.getOccupiedFraction() * 100, metapopulation.getTotalPopulation());
+        }
+        
+        Insets insets = getInsets();
+        int areaWidth = getWidth() - insets.left - insets.right;
+        int areaHeight = getHeight() - insets.top - insets.bottom;
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2.drawImage(heatmapImage, insets.left, insets.top, areaWidth, areaHeight, null);
+        
+        String summary = heatmapSummary;
+        g2.setFont(GameFonts.SMALL);
+        FontMetrics fm = g2.getFontMetrics();
+        g2.setColor(new Color(0, 0, 0, 160));
+        g2.fillRect(insets.left, insets.top, fm.stringWidth(summary) + 12, fm.getHeight() + 6);
+        g2.setColor(Color.WHITE);
+        g2.drawString(summary, insets.left + 6, insets.top + 3 + fm.getAscent());
+    }
 }
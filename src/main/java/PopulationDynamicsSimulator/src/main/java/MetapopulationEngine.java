@@ -0,0 +1,175 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * A lattice of colonies. Every cell follows the Allee map with its own r, K and A,
+ * then sends a fraction of its ants to its four neighbours. Daily random events act
+ * on the whole lattice like weather, through global multipliers, so the per-cell
+ * parameter arrays are never rewritten.
+ *
+ * A day is two parallel passes over square tiles: local growth into a scratch
+ * buffer, then the migration stencil from the scratch buffer back into the
+ * population array. All state is kept in flat primitive arrays.
+ */
+public class MetapopulationEngine {
+    private static final int TILE_SIZE = 64;
+
+    private final int width;
+    private final int height;
+    private final double migrationRate;   // Fraction of each cell's ants that leave every day
+    private final double[] x;
+    private final double[] grown;          // Scratch buffer: population after local growth
+    private final double[] r;
+    private final double[] K;
+    private final double[] A;
+    private final int tilesX;
+    private final int tilesY;
+
+    // Product of all event multipliers so far
+    private double rScale = 1;
+    private double kScale = 1;
+    private double aScale = 1;
+    private int day;
+
+    public MetapopulationEngine(int width, int height, double migrationRate) {
+        this.width = width;
+        this.height = height;
+        this.migrationRate = migrationRate;
+        int cells = width * height;
+        this.x = new double[cells];
+        this.grown = new double[cells];
+        this.r = new double[cells];
+        this.K = new double[cells];
+        this.A = new double[cells];
+        this.tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        this.tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+    }
+
+    // Getters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getDay() { return day; }
+
+    /**
+     * Fills the lattice around a base colony. Each cell's r, K and A are the base
+     * values times a log-normal factor with the given spread, and its population is
+     * the base population times a uniform factor in [0.5, 1.5].
+     */
+    public synchronized void seed(double baseX, double baseR, double baseK, double baseA,
+                                  double heterogeneity, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < x.length; i++) {
+            r[i] = baseR * Math.exp(heterogeneity * gaussian(random));
+            K[i] = baseK * Math.exp(heterogeneity * gaussian(random));
+            A[i] = baseA * Math.exp(heterogeneity * gaussian(random));
+            x[i] = baseX * (0.5 + random.nextDouble());
+        }
+        rScale = kScale = aScale = 1;
+        day = 0;
+    }
+
+    // ==================== STEPPING ====================
+
+    /**
+     * Advances every colony by one day under the given event.
+     */
+    public synchronized void step(RandomEvent.Event event) {
+        rScale *= event.rMultiplier;
+        kScale *= event.kMultiplier;
+        aScale *= event.aMultiplier;
+        double populationScale = event.populationMultiplier;
+
+        IntStream.range(0, tilesX * tilesY).parallel().forEach(t -> growTile(t, populationScale));
+        IntStream.range(0, tilesX * tilesY).parallel().forEach(this::migrateTile);
+        day++;
+    }
+
+    private void growTile(int tile, double populationScale) {
+        int x0 = (tile % tilesX) * TILE_SIZE;
+        int y0 = (tile / tilesX) * TILE_SIZE;
+        int x1 = Math.min(width, x0 + TILE_SIZE);
+        int y1 = Math.min(height, y0 + TILE_SIZE);
+        for (int cy = y0; cy < y1; cy++) {
+            int row = cy * width;
+            for (int cx = x0; cx < x1; cx++) {
+                int i = row + cx;
+                double value = AntColonyGame.populationModel(x[i] * populationScale,
+                    r[i] * rScale, K[i] * kScale, A[i] * aScale);
+                grown[i] = value < AntColonyGame.EXTINCTION_THRESHOLD ? 0 : value;
+            }
+        }
+    }
+
+    /**
+     * Each cell keeps (1 - m) of its ants and sends m/4 to each neighbour. At the
+     * edges, the share meant for a missing neighbour stays home, so no ants are lost.
+     */
+    private void migrateTile(int tile) {
+        int x0 = (tile % tilesX) * TILE_SIZE;
+        int y0 = (tile / tilesX) * TILE_SIZE;
+        int x1 = Math.min(width, x0 + TILE_SIZE);
+        int y1 = Math.min(height, y0 + TILE_SIZE);
+        double share = migrationRate / 4;
+        for (int cy = y0; cy < y1; cy++) {
+            int row = cy * width;
+            for (int cx = x0; cx < x1; cx++) {
+                int i = row + cx;
+                double own = grown[i];
+                double value = own * (1 - migrationRate);
+                value += share * (cx > 0 ? grown[i - 1] : own);
+                value += share * (cx < width - 1 ? grown[i + 1] : own);
+                value += share * (cy > 0 ? grown[i - width] : own);
+                value += share * (cy < height - 1 ? grown[i + width] : own);
+                x[i] = value;
+            }
+        }
+    }
+
+    // ==================== SUMMARY ====================
+
+    public synchronized double getTotalPopulation() {
+        double total = 0;
+        for (double value : x) total += value;
+        return total;
+    }
+
+    /** Fraction of cells that still hold a colony. */
+    public synchronized double getOccupiedFraction() {
+        int occupied = 0;
+        for (double value : x) {
+            if (value >= AntColonyGame.EXTINCTION_THRESHOLD) occupied++;
+        }
+        return (double) occupied / x.length;
+    }
+
+    /**
+     * Writes one ARGB pixel per cell: black for empty cells, then dark red through
+     * orange to pale yellow as the population approaches and exceeds its K.
+     */
+    public synchronized void renderHeatmap(int[] pixels) {
+        double kFactor = kScale;
+        IntStream.range(0, height).parallel().forEach(cy -> {
+            int row = cy * width;
+            for (int cx = 0; cx < width; cx++) {
+                int i = row + cx;
+                if (x[i] < AntColonyGame.EXTINCTION_THRESHOLD) {
+                    pixels[i] = 0xFF000000;
+                    continue;
+                }
+                double level = Math.min(1.5, x[i] / (K[i] * kFactor)) / 1.5;
+                int red = (int) (80 + 175 * Math.min(1, level * 2));
+                int green = (int) (235 * Math.max(0, level * 2 - 0.6) / 1.4);
+                int blue = (int) (160 * Math.max(0, level - 0.7) / 0.3);
+                pixels[i] = 0xFF000000 | (red << 16) | (Math.min(255, green) << 8) | Math.min(255, blue);
+            }
+        });
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; one value per call is plenty for seeding
+        double u = 1 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+}
@@ -0,0 +1,19 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+/**
+ * Which model drives the colony's population from one day to the next.
+ */
+public enum ModelVariant {
+    MAP("Allee Map"),
+    AGENT_BASED("Individual Ants"),
+    DEMOGRAPHIC("Whole Ants (Random Births/Deaths)"),
+    CONTINUOUS("Continuous Time (ODE)"),
+    STAGE_STRUCTURED("Life Stages (Eggs to Workers)"),
+    DELAYED("Delayed Food Response");
+
+    public final String label;
+
+    ModelVariant(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,72 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import javax.swing.AbstractListModel;
+
+/**
+ * Bounded news feed backed by a ring buffer. Index 0 is always the newest entry.
+ * When full, the oldest entry is dropped (and optionally written to a run log),
+ * so adding a message costs the same on day 100,000 as on day 1.
+ */
+public class NewsLog extends AbstractListModel<String> {
+    private final String[] entries;
+    private int newest = -1;  // Slot holding the most recent entry
+    private int size;
+    private PrintStream spillLog;
+
+    public NewsLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, got " + capacity);
+        }
+        entries = new String[capacity];
+    }
+
+    /**
+     * Sets a stream that receives entries as they fall off the end of the feed.
+     * Pass null to simply discard them.
+     */
+    public void setSpillLog(PrintStream spillLog) {
+        this.spillLog = spillLog;
+    }
+
+    public void add(String entry) {
+        if (size == entries.length) {
+            String oldest = getElementAt(size - 1);
+            if (spillLog != null) {
+                spillLog.println(oldest);
+            }
+            size--;
+            fireIntervalRemoved(this, size, size);
+        }
+        newest = (newest + 1) % entries.length;
+        entries[newest] = entry;
+        size++;
+        fireIntervalAdded(this, 0, 0);
+    }
+
+    public void clear() {
+        if (size == 0) return;
+        int oldSize = size;
+        Arrays.fill(entries, null);
+        newest = -1;
+        size = 0;
+        fireIntervalRemoved(this, 0, oldSize - 1);
+    }
+
+    public int getCapacity() { return entries.length; }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for size " + size);
+        }
+        return entries[(newest - index + entries.length) % entries.length];
+    }
+}
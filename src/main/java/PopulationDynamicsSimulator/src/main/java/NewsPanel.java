@@ -1,28 +1,43 @@
 package PopulationDynamicsSimulator.src.main.java;
 
 import java.awt.BorderLayout;
+import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
+import javax.swing.BorderFactory;
+import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JTextArea;
+import javax.swing.ListCellRenderer;
 
 /**
  * News panel with background image.
  */
 public class NewsPanel extends JPanel {
     private BufferedImage backgroundImage;
-    private JTextArea textArea;
+    private JList<String> newsList;
     
-    public NewsPanel() {
+    public NewsPanel(NewsLog newsLog) {
         setLayout(new BorderLayout());
-        textArea = new JTextArea();
+        newsList = new JList<>(newsLog);
+        newsList.setCellRenderer(new NewsCellRenderer());
+        newsList.setFocusable(false);
+        
+        // Cell heights depend on the wrap width, so re-measure when the list is resized
+        newsList.addComponentListener(new java.awt.event.ComponentAdapter() {
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                newsList.setFixedCellHeight(10);
+                newsList.setFixedCellHeight(-1);
+            }
+        });
         backgroundImage = ImageLoader.load("newspanel.png");
     }
     
-    public JTextArea getTextArea() {
-        return textArea;
+    public JList<String> getNewsList() {
+        return newsList;
     }
     
     @Override
@@ -32,4 +47,30 @@ public class NewsPanel extends JPanel {
             ((Graphics2D) g).drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
         }
     }
+    
+    // ==================== INNER CLASS: NewsCellRenderer ====================
+    
+    /**
+     * Renders one news entry as word-wrapped text. The list only paints the
+     * visible cells, so the cost per repaint does not depend on the feed length.
+     */
+    private static class NewsCellRenderer extends JTextArea implements ListCellRenderer<String> {
+        NewsCellRenderer() {
+            setLineWrap(true);
+            setWrapStyleWord(true);
+            setOpaque(false);
+            setBorder(BorderFactory.createEmptyBorder(0, 0, 12, 0));
+        }
+        
+        @Override
+        public Component getListCellRendererComponent(JList<? extends String> list, String value,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            setFont(list.getFont());
+            setForeground(list.getForeground());
+            setText(value);
+            // Size to the list width first so the preferred height accounts for wrapping
+            setSize(Math.max(1, list.getWidth()), Short.MAX_VALUE);
+            return this;
+        }
+    }
 }
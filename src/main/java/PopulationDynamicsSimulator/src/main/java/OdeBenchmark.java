@@ -0,0 +1,77 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+/**
+ * Command-line benchmark: how many steps per second the discrete Allee map and the
+ * adaptive ODE integrator manage on the game's default parameters, single-threaded
+ * and as a parallel ensemble.
+ *
+ * Run with: java PopulationDynamicsSimulator.src.main.java.OdeBenchmark
+ */
+public class OdeBenchmark {
+    private static final double R = 0.05;
+    private static final double K = 25;
+    private static final double A = 1;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        System.out.println("Allee model benchmark (r=" + R + ", K=" + K + ", A=" + A + ", "
+            + Runtime.getRuntime().availableProcessors() + " threads)");
+        for (int round = 1; round <= ROUNDS; round++) {
+            // The first rounds are JIT warm-up; the last one is the one to read
+            System.out.println("Round " + round + ":");
+            benchmarkMap();
+            benchmarkIntegrator();
+            benchmarkEnsemble();
+        }
+    }
+
+    private static void benchmarkMap() {
+        int iterations = 50_000_000;
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int trajectory = 0; trajectory < 100; trajectory++) {
+            double x = 2 + 0.2 * trajectory;
+            for (int i = 0; i < iterations / 100; i++) {
+                x = AntColonyGame.populationModel(x, R, K, A);
+            }
+            sink += x;
+        }
+        report("  Discrete map", iterations, System.nanoTime() - start, "days", sink);
+    }
+
+    private static void benchmarkIntegrator() {
+        AlleeOdeIntegrator integrator = new AlleeOdeIntegrator(1e-8, 1e-10);
+        integrator.setParameters(R, K, A);
+        int trajectories = 20_000;
+        double sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < trajectories; i++) {
+            sink += integrator.integrate(0.5 + 0.3 * (i % 100), 0, 500);
+        }
+        long elapsed = System.nanoTime() - start;
+        report("  ODE (DP5)   ", integrator.getAcceptedSteps(), elapsed, "steps", sink);
+        report("              ", trajectories * 500L, elapsed, "model days", sink);
+    }
+
+    private static void benchmarkEnsemble() {
+        int members = 20_000;
+        double[] x0 = new double[members];
+        double[] out = new double[members];
+        for (int i = 0; i < members; i++) {
+            x0[i] = 2.0 * K * i / members;
+        }
+        long start = System.nanoTime();
+        AlleeOdeIntegrator.integrateEnsemble(x0, R, K, A, 500, out);
+        long elapsed = System.nanoTime() - start;
+        double survivors = 0;
+        for (double x : out) {
+            if (x > AntColonyGame.EXTINCTION_THRESHOLD) survivors++;
+        }
+        report("  ODE ensemble", members * 500L, elapsed, "model days", survivors / members);
+    }
+
+    private static void report(String name, long count, long nanos, String unit, double sink) {
+        double perSecond = count / (nanos / 1e9);
+        System.out.printf("%s %8.1f M %s/s  (%d ms, check %.3f)%n", name, perSecond / 1e6, unit, nanos / 1_000_000, sink);
+    }
+}
@@ -1,24 +1,27 @@
 package PopulationDynamicsSimulator.src.main.java;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
- * Generates random events that affect the colony.
+ * Generates random events that affect the colony, drawn from an EventTable. With a
+ * WeatherModel set, each day first advances the weather regime and the event is
+ * drawn from that regime's weights, so events cluster into seasons.
  */
 public class RandomEvent {
-    private Random random;
-    private List<WeightedEvent> eventPool;
+    private final Random random;
+    private final EventTable table;
+    private WeatherModel weather;
+    private WeatherModel.Regime regime = WeatherModel.Regime.FAIR;
+    private boolean regimeChanged;
     
     // ==================== INNER CLASS: Event ====================
     
     public static class Event {
-        public String message;
-        public double rMultiplier;
-        public double kMultiplier;
-        public double aMultiplier;
-        public double populationMultiplier;
+        public final String message;
+        public final double rMultiplier;
+        public final double kMultiplier;
+        public final double aMultiplier;
+        public final double populationMultiplier;
         
         public Event(String message, double rMult, double kMult, double aMult) {
             this(message, rMult, kMult, aMult, 1.0);
@@ -33,169 +36,23 @@ public class RandomEvent {
         }
     }
     
-    // ==================== INNER CLASS: WeightedEvent ====================
-    
-    private static class WeightedEvent {
-        Event event;
-        double weight;
-        
-        WeightedEvent(Event event, double weight) {
-            this.event = event;
-            this.weight = weight;
-        }
-    }
-    
     // ==================== CONSTRUCTORS ====================
     
     public RandomEvent() {
-        random = new Random();
-        initializeEventPool();
+        this(EventTable.getDefault(), new Random());
     }
     
     public RandomEvent(long seed) {
-        random = new Random(seed);
-        initializeEventPool();
+        this(EventTable.getDefault(), new Random(seed));
     }
     
-    // ==================== EVENT POOL INITIALIZATION ====================
+    public RandomEvent(EventTable table, long seed) {
+        this(table, new Random(seed));
+    }
     
-    private void initializeEventPool() {
-        eventPool = new ArrayList<>();
-        
-        // 75% chance of no event
-        eventPool.add(new WeightedEvent(
-            new Event("☀️ It's a beautiful day today!", 1.0, 1.0, 1.0),
-            75.0
-        ));
-        
-        // Common events (weight 3 each)
-        eventPool.add(new WeightedEvent(
-            new Event("🌧️ Light rainfall. The colony found some food.\n+5% growth rate", 1.05, 1.0, 1.0),
-            3.0
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🌱 New foraging trail discovered!\n+8% growth rate, +5% carrying capacity", 1.08, 1.05, 1.0),
-            3.0
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🌸 Mild spring weather. Good conditions.\n+10% growth rate", 1.10, 1.0, 1.0),
-            3.0
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🌿 Perfect weather conditions!\n+8% growth rate, +5% carrying capacity, -8% Allee threshold", 1.08, 1.05, 0.92),
-            3.0
-        ));
-        
-        // Uncommon events (weight 1.5 each)
-        eventPool.add(new WeightedEvent(
-            new Event("☀️ Hot day. Workers are less active.\n-10% growth rate", 0.90, 1.0, 1.0),
-            1.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🍄 Discovered a small fungus patch!\n+12% carrying capacity", 1.0, 1.12, 1.0),
-            1.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🦗 Insects nearby! Easy prey for workers.\n+12% growth rate, +8% carrying capacity", 1.12, 1.08, 1.0),
-            1.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🏗️ Workers expanded some chambers.\n+10% carrying capacity, -8% Allee threshold", 1.0, 1.10, 0.92),
-            1.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🔬 Workers developed better coordination!\n-12% Allee threshold", 1.0, 1.0, 0.88),
-            1.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🌪️ Windstorm disrupted foraging.\n-12% growth rate", 0.88, 1.0, 1.0),
-            1.5
-        ));
-        
-        // Rare events (weight 0.5 each)
-        eventPool.add(new WeightedEvent(
-            new Event("🦎 Predator spotted near colony!\n-10% carrying capacity, +8% Allee threshold", 1.0, 0.90, 1.08),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("☀️ Drought conditions. Food scarce.\n-18% growth rate", 0.82, 1.0, 1.0),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("❄️ Cold snap! Workers sluggish.\n-15% growth rate", 0.85, 1.0, 1.0),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🐜 Rival colony detected nearby.\n-12% carrying capacity, +10% Allee threshold", 1.0, 0.88, 1.10),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🏚️ Found abandoned nest! Free chambers.\n+20% carrying capacity, -12% Allee threshold", 1.0, 1.20, 0.88),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🍯 Found a rich sugar source!\n+15% growth rate, +10% carrying capacity, -8% Allee threshold", 1.15, 1.10, 0.92),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("👑 Queen produced extra eggs!\n+25% growth rate", 1.25, 1.0, 1.0),
-            0.5
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🌧️ Heavy rainfall! Abundant food.\n+18% growth rate, +10% carrying capacity", 1.18, 1.10, 1.0),
-            0.5
-        ));
-        
-        // Very rare events (weight 0.2 each)
-        eventPool.add(new WeightedEvent(
-            new Event("🦠 Disease outbreak! Colony health compromised.\n-25% growth rate, +15% Allee threshold", 0.75, 1.0, 1.15),
-            0.2
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("☠️ DEVASTATING PLAGUE! Half the colony has perished!\nPopulation reduced by 50%, -20% growth rate", 0.80, 1.0, 1.0, 0.5),
-            0.2
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🏗️ Tunnel collapse! Lost chambers.\n-22% carrying capacity, +10% Allee threshold", 1.0, 0.78, 1.10),
-            0.2
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🦂 Scorpion nest discovered nearby!\n-20% growth rate, +18% Allee threshold", 0.80, 1.0, 1.18),
-            0.2
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("⚡ Lightning strike! Workers scattered.\n-28% growth rate, +12% Allee threshold", 0.72, 1.0, 1.12),
-            0.2
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("🪨 Discovered deep caverns! Major expansion.\n+28% carrying capacity, -20% Allee threshold", 1.0, 1.28, 0.80),
-            0.2
-        ));
-        
-        eventPool.add(new WeightedEvent(
-            new Event("☠️ PLAGUE! Devastating disease sweeps through colony!\nHalf the population perished. -20% growth rate, +20% Allee threshold", 0.80, 1.0, 1.20, 0.5),
-            0.2
-        ));
+    private RandomEvent(EventTable table, Random random) {
+        this.table = table;
+        this.random = random;
     }
     
     // ==================== PUBLIC METHODS ====================
@@ -204,21 +61,100 @@ public class RandomEvent {
      * Generates a random event based on probability distribution.
      */
     public Event generateEvent() {
-        double totalWeight = 0;
-        for (WeightedEvent we : eventPool) {
-            totalWeight += we.weight;
+        return table.getEvent(nextIndex());
+    }
+    
+    /**
+     * Draws the next count days' events at once, as indices into the table, exactly
+     * as count calls to generateEvent() would.
+     */
+    public void generateIndices(int[] indices, int count) {
+        generateIndices(indices, null, count);
+    }
+    
+    /**
+     * As above, also recording each day's weather regime in regimes (may be null),
+     * so a caller that uses fewer days can put the regime back with restoreRegime().
+     */
+    public void generateIndices(int[] indices, WeatherModel.Regime[] regimes, int count) {
+        for (int i = 0; i < count; i++) {
+            indices[i] = nextIndex();
+            if (regimes != null) regimes[i] = regime;
         }
-        
-        double randomValue = random.nextDouble() * totalWeight;
-        double cumulativeWeight = 0;
-        
-        for (WeightedEvent we : eventPool) {
-            cumulativeWeight += we.weight;
-            if (randomValue <= cumulativeWeight) {
-                return we.event;
-            }
+    }
+    
+    private int nextIndex() {
+        if (weather == null) {
+            return table.sample(random.nextDouble());
         }
-        
-        return eventPool.get(0).event;
+        WeatherModel.Regime next = weather.nextRegime(regime, random.nextDouble());
+        regimeChanged = next != regime;
+        regime = next;
+        return weather.sampleEvent(regime, random.nextDouble());
+    }
+    
+    // ==================== WEATHER ====================
+    
+    /**
+     * Turns weather regimes on, starting in fair weather, or off with null. The model
+     * must be built on this generator's table.
+     */
+    public void setWeather(WeatherModel weather) {
+        if (weather != null && weather.getTable() != table) {
+            throw new IllegalArgumentException("Weather model uses a different event table");
+        }
+        this.weather = weather;
+        this.regime = WeatherModel.Regime.FAIR;
+        this.regimeChanged = false;
+    }
+    
+    public WeatherModel getWeather() {
+        return weather;
+    }
+    
+    public WeatherModel.Regime getRegime() {
+        return regime;
+    }
+    
+    /**
+     * True if the last generateEvent() moved to a new regime.
+     */
+    public boolean hasRegimeChanged() {
+        return regimeChanged;
+    }
+    
+    /**
+     * Sets the regime without drawing: back to that of an earlier day for callers
+     * that drew a block of days and stopped part way, or to another generator's
+     * regime. The random stream is not rewound.
+     */
+    void restoreRegime(WeatherModel.Regime regime, boolean changed) {
+        this.regime = regime;
+        this.regimeChanged = changed;
+    }
+    
+    // ==================== POOL ACCESS ====================
+    
+    public EventTable getTable() {
+        return table;
+    }
+    
+    public int getEventCount() {
+        return table.size();
+    }
+    
+    public Event getEvent(int index) {
+        return table.getEvent(index);
+    }
+    
+    public double getWeight(int index) {
+        return table.getWeight(index);
+    }
+    
+    /**
+     * Probability of each event under the normal event distribution.
+     */
+    public double[] getProbabilities() {
+        return table.getProbabilities();
     }
 }
@@ -0,0 +1,170 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Thresholded recurrence matrix of a population series: R(i, j) = 1 when days i and
+ * j are within epsilon of each other. Rows are bit-packed into longs (one bit per
+ * cell), so 2048 days take 512 KB instead of the 32 MB of a double matrix, and rows
+ * are built in parallel blocks.
+ *
+ * The recurrence quantification measures work a word (64 cells) at a time, with
+ * the line of identity (i = j) left out as usual:
+ *   RR  - share of cells that recur,
+ *   DET - share of recurrent cells on diagonal lines of length >= 2, i.e. with a
+ *         recurrent diagonal neighbour (i-1, j-1) or (i+1, j+1),
+ *   LAM - share of recurrent cells on vertical lines of length >= 2, i.e. with a
+ *         recurrent neighbour (i-1, j) or (i+1, j).
+ * The neighbours of a whole word come from shifting the adjacent rows by one bit.
+ */
+public class RecurrencePlot {
+    private static final int ROW_BLOCK = 64;
+
+    private final int size;
+    private final int wordsPerRow;
+    private final long[] bits;
+    private final double epsilon;
+
+    private double recurrenceRate;
+    private double determinism;
+    private double laminarity;
+
+    /**
+     * Builds the plot of series, with epsilon the distance below which two days count
+     * as the same state.
+     */
+    public RecurrencePlot(double[] series, double epsilon) {
+        this.size = series.length;
+        this.wordsPerRow = (size + 63) >>> 6;
+        this.bits = new long[size * wordsPerRow];
+        this.epsilon = epsilon;
+
+        int blocks = (size + ROW_BLOCK - 1) / ROW_BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            int to = Math.min(size, (block + 1) * ROW_BLOCK);
+            for (int i = block * ROW_BLOCK; i < to; i++) {
+                buildRow(series, i);
+            }
+        });
+        quantify();
+    }
+
+    /**
+     * Plot of a window of the history: the days from start (inclusive) to end
+     * (exclusive), taking every stride-th day so long stretches fit in fewer points.
+     * epsilon is epsilonFraction of the window's standard deviation.
+     */
+    public static RecurrencePlot fromHistory(List<Double> history, int start, int end, int stride,
+                                             double epsilonFraction) {
+        int count = (end - start + stride - 1) / stride;
+        double[] series = new double[count];
+        double sum = 0, sumSquares = 0;
+        for (int k = 0; k < count; k++) {
+            double x = history.get(start + k * stride);
+            series[k] = x;
+            sum += x;
+            sumSquares += x * x;
+        }
+        double mean = count > 0 ? sum / count : 0;
+        double deviation = count > 0 ? Math.sqrt(Math.max(0, sumSquares / count - mean * mean)) : 0;
+        return new RecurrencePlot(series, epsilonFraction * deviation);
+    }
+
+    private void buildRow(double[] series, int i) {
+        double xi = series[i];
+        int offset = i * wordsPerRow;
+        for (int w = 0; w < wordsPerRow; w++) {
+            int from = w << 6;
+            int to = Math.min(size, from + 64);
+            long word = 0;
+            for (int j = from; j < to; j++) {
+                if (Math.abs(series[j] - xi) <= epsilon) {
+                    word |= 1L << (j - from);
+                }
+            }
+            bits[offset + w] = word;
+        }
+    }
+
+    // ==================== QUANTIFICATION ====================
+
+    private void quantify() {
+        int blocks = (size + ROW_BLOCK - 1) / ROW_BLOCK;
+        long[][] counts = new long[blocks][];
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            long recurrent = 0, diagonal = 0, vertical = 0;
+            int to = Math.min(size, (block + 1) * ROW_BLOCK);
+            for (int i = block * ROW_BLOCK; i < to; i++) {
+                for (int w = 0; w < wordsPerRow; w++) {
+                    long row = word(i, w);
+                    if (row == 0) continue;
+                    long above = word(i - 1, w);
+                    long below = word(i + 1, w);
+                    // (i-1, j-1) and (i+1, j+1) moved into column j
+                    long upLeft = (above << 1) | (w > 0 ? word(i - 1, w - 1) >>> 63 : 0);
+                    long downRight = (below >>> 1) | (w + 1 < wordsPerRow ? word(i + 1, w + 1) << 63 : 0);
+                    recurrent += Long.bitCount(row);
+                    diagonal += Long.bitCount(row & (upLeft | downRight));
+                    vertical += Long.bitCount(row & (above | below));
+                }
+            }
+            counts[block] = new long[] {recurrent, diagonal, vertical};
+        });
+
+        long recurrent = 0, diagonal = 0, vertical = 0;
+        for (long[] c : counts) {
+            recurrent += c[0];
+            diagonal += c[1];
+            vertical += c[2];
+        }
+        long offDiagonalCells = (long) size * size - size;
+        recurrenceRate = offDiagonalCells > 0 ? (double) recurrent / offDiagonalCells : 0;
+        determinism = recurrent > 0 ? (double) diagonal / recurrent : 0;
+        laminarity = recurrent > 0 ? (double) vertical / recurrent : 0;
+    }
+
+    /**
+     * Word w of row i without the line of identity; 0 outside the matrix.
+     */
+    private long word(int i, int w) {
+        if (i < 0 || i >= size) return 0;
+        long word = bits[i * wordsPerRow + w];
+        if (i >>> 6 == w) word &= ~(1L << (i & 63));
+        return word;
+    }
+
+    // ==================== RESULTS ====================
+
+    public int getSize() { return size; }
+    public double getEpsilon() { return epsilon; }
+    public double getRecurrenceRate() { return recurrenceRate; }
+    public double getDeterminism() { return determinism; }
+    public double getLaminarity() { return laminarity; }
+
+    public boolean isRecurrent(int i, int j) {
+        return (bits[i * wordsPerRow + (j >>> 6)] >>> (j & 63) & 1) != 0;
+    }
+
+    /**
+     * One pixel per cell, black where days recur, with day 0 at the top left. The
+     * packed rows are copied into the image's 1-bit raster a byte at a time.
+     */
+    public BufferedImage toImage() {
+        BufferedImage image = new BufferedImage(Math.max(1, size), Math.max(1, size), BufferedImage.TYPE_BYTE_BINARY);
+        byte[] raster = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        int bytesPerRow = (size + 7) >>> 3;
+        for (int i = 0; i < size; i++) {
+            int rowStart = i * bytesPerRow;
+            for (int b = 0; b < bytesPerRow; b++) {
+                long word = bits[i * wordsPerRow + (b >>> 3)];
+                // The raster is most-significant-bit first and 1 means white
+                int cells = (int) (word >>> ((b & 7) << 3)) & 0xFF;
+                raster[rowStart + b] = (byte) ~(Integer.reverse(cells) >>> 24);
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,128 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingWorker;
+
+/**
+ * Recurrence plot of the population history with its RR, DET and LAM, for a
+ * chosen window of days. Long windows are subsampled to at most MAX_POINTS days.
+ */
+public class RecurrencePlotPanel extends JPanel {
+    private static final int MAX_POINTS = 2048;
+    private static final double EPSILON_FRACTION = 0.1;   // Recurrence threshold, in standard deviations
+    private static final int[] WINDOWS = {250, 1000, 5000, Integer.MAX_VALUE};
+
+    private final List<Double> history;
+    private final JLabel measuresLabel;
+    private final PlotView plotView;
+    private SwingWorker<RecurrencePlot, Void> worker;
+
+    /**
+     * @param history snapshot of the population history; it is not modified
+     */
+    public RecurrencePlotPanel(List<Double> history) {
+        super(new BorderLayout(5, 5));
+        this.history = new ArrayList<>(history);
+        setBackground(Color.WHITE);
+
+        JComboBox<String> windowBox = new JComboBox<>();
+        for (int window : WINDOWS) {
+            windowBox.addItem(window == Integer.MAX_VALUE ? "Whole history" : "Last " + window + " days");
+        }
+        windowBox.setSelectedIndex(1);
+        windowBox.setFont(GameFonts.SMALL);
+        windowBox.addActionListener(e -> rebuild(WINDOWS[windowBox.getSelectedIndex()]));
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.setOpaque(false);
+        JLabel windowLabel = new JLabel("Window:");
+        windowLabel.setFont(GameFonts.SMALL);
+        controls.add(windowLabel);
+        controls.add(windowBox);
+
+        measuresLabel = new JLabel(" ");
+        measuresLabel.setFont(GameFonts.SMALL);
+        plotView = new PlotView();
+
+        add(controls, BorderLayout.NORTH);
+        add(plotView, BorderLayout.CENTER);
+        add(measuresLabel, BorderLayout.SOUTH);
+        rebuild(WINDOWS[1]);
+    }
+
+    private void rebuild(int window) {
+        if (worker != null) worker.cancel(true);
+        int end = history.size();
+        int start = Math.max(0, end - window);
+        int stride = Math.max(1, (end - start + MAX_POINTS - 1) / MAX_POINTS);
+        measuresLabel.setText("Computing...");
+
+        worker = new SwingWorker<RecurrencePlot, Void>() {
+            @Override
+            protected RecurrencePlot doInBackground() {
+                return RecurrencePlot.fromHistory(history, start, end, stride, EPSILON_FRACTION);
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) return;
+                try {
+                    RecurrencePlot plot = get();
+                    plotView.setImage(plot.toImage());
+                    measuresLabel.setText(String.format(
+                        "Days %d-%d%s | epsilon = %.3f | RR = %.1f%% | DET = %.1f%% | LAM = %.1f%%",
+                        start, end - 1, stride > 1 ? " (every " + stride + ")" : "", plot.getEpsilon(),
+                        plot.getRecurrenceRate() * 100, plot.getDeterminism() * 100, plot.getLaminarity() * 100));
+                } catch (Exception e) {
+                    measuresLabel.setText("Recurrence plot failed: " + e.getMessage());
+                }
+            }
+        };
+        worker.execute();
+    }
+
+    // ==================== INNER CLASS: PlotView ====================
+
+    /**
+     * Draws the plot image scaled to a centred square, without smoothing.
+     */
+    private static class PlotView extends JPanel {
+        private BufferedImage image;
+
+        PlotView() {
+            setBackground(Color.WHITE);
+        }
+
+        void setImage(BufferedImage image) {
+            this.image = image;
+            repaint();
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (image == null) return;
+            Graphics2D g2 = (Graphics2D) g;
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            int side = Math.min(getWidth(), getHeight()) - 20;
+            if (side <= 0) return;
+            int x = (getWidth() - side) / 2;
+            int y = (getHeight() - side) / 2;
+            g2.drawImage(image, x, y, side, side, null);
+            g2.setColor(Color.GRAY);
+            g2.drawRect(x, y, side, side);
+        }
+    }
+}
@@ -0,0 +1,497 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Global sensitivity of extinction risk and final population to the hand-tuned
+ * parameters: the strength of the four action buttons and the weights of the random
+ * events, grouped by tier (all events sharing a base weight scale together). If an
+ * event file has more distinct weights than the Sobol sequence has dimensions for,
+ * the tiers with the closest weights are merged.
+ *
+ * Each factor is a number u in [0, 1]. An action multiplier m becomes
+ * 1 + (m - 1)(0.5 + u), i.e. half to one and a half times its effect, and a weight
+ * tier is scaled by 2^(2u - 1), i.e. between half and double; with weather regimes,
+ * the tier scales each regime's tilted weights and runs start in the pool's current
+ * regime. A parameter point is
+ * scored by running scenariosPerPoint headless colonies for horizon days, with a
+ * player who picks one of the four action buttons or waits, at random, every
+ * actionInterval days. Scenario k of a sample row always uses the same random
+ * streams (common random numbers), so points that share a row differ only in their
+ * parameters.
+ *
+ * Two methods are offered:
+ * - Sobol indices (Saltelli sampling): base matrices A and B come from one Sobol
+ *   sequence of 2d dimensions, and each row also evaluates A with column i taken
+ *   from B. First-order indices use the Saltelli (2010) estimator, total indices the
+ *   Jansen estimator. f(B) is centred on the mean of the first batch, which keeps
+ *   the first-order estimator unbiased but cuts its variance several times over.
+ * - Morris screening: one-at-a-time trajectories on a 4-level grid, reporting the
+ *   mean absolute elementary effect (mu*) and its spread (sigma).
+ * Rows run in parallel a batch at a time and are folded into running (Welford)
+ * statistics, so memory does not grow with the number of samples and partial
+ * results can be reported after every batch.
+ */
+public class SensitivityAnalysis {
+    private static final int BATCH_ROWS = 64;
+    private static final double MORRIS_DELTA = 2.0 / 3;     // Step on the 4-level grid {0, 1/3, 2/3, 1}
+    private static final double Z_95 = 1.96;
+    private static final ColonyAction[] PLAYER_ACTIONS = {
+        ColonyAction.NONE, ColonyAction.LAY_MORE_EGGS, ColonyAction.LAY_LESS_EGGS,
+        ColonyAction.BUILD_CHAMBERS, ColonyAction.DESTROY_CHAMBERS
+    };
+    private static final int ACTION_FACTORS = 6;
+    // Sobol needs two dimensions per factor, so this many weight tiers at most
+    private static final int MAX_WEIGHT_TIERS = SobolSequence.MAX_DIMENSIONS / 2 - ACTION_FACTORS;
+
+    private final ColonySimulator start;
+    private final ColonyAction.Effects nominal;
+    private final RandomEvent.Event[] events;
+    private final double[] baseWeights;
+    private final WeatherModel weather;             // null without weather regimes
+    private final WeatherModel.Regime startRegime;
+    private final double[][] regimeWeights;         // Per regime; all rows the base weights without weather
+    private final int[] tierOfEvent;
+    private final String[] factorNames;
+    private final int horizon;
+    private final int actionInterval;
+    private final int scenariosPerPoint;
+
+    public enum Output {
+        EXTINCTION("extinction risk"),
+        FINAL_POPULATION("final population");
+
+        public final String label;
+
+        Output(String label) {
+            this.label = label;
+        }
+    }
+
+    // ==================== INNER CLASS: RunningStats ====================
+
+    /**
+     * Welford's running mean and variance.
+     */
+    static class RunningStats {
+        private long count;
+        private double mean;
+        private double m2;
+
+        void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+
+        double getMean() { return mean; }
+        double getVariance() { return count > 1 ? m2 / (count - 1) : 0; }
+        double getStandardError() { return count > 1 ? Math.sqrt(getVariance() / count) : 0; }
+    }
+
+    // ==================== INNER CLASS: SobolIndices ====================
+
+    /**
+     * First-order and total Sobol indices per output and factor, with 95% half-widths.
+     * The first-order index is the share of the output variance a factor explains on
+     * its own, the total index also counts its interactions with the others.
+     */
+    public static class SobolIndices {
+        public final String[] factors;
+        public final double[][] firstOrder;
+        public final double[][] firstOrderError;
+        public final double[][] total;
+        public final double[][] totalError;
+        public final double[] variance;
+        public final long rows;
+        public final long runs;
+
+        SobolIndices(String[] factors, int outputs, long rows, long runs) {
+            this.factors = factors;
+            this.firstOrder = new double[outputs][factors.length];
+            this.firstOrderError = new double[outputs][factors.length];
+            this.total = new double[outputs][factors.length];
+            this.totalError = new double[outputs][factors.length];
+            this.variance = new double[outputs];
+            this.rows = rows;
+            this.runs = runs;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format(
+                "Sobol indices from %d sample rows (%d colony runs)%n", rows, runs));
+            for (Output output : Output.values()) {
+                int o = output.ordinal();
+                text.append(String.format("%n%s (variance %.4g), by total effect:%n", output.label, variance[o]));
+                text.append(String.format("  %-34s %16s %16s%n", "Parameter", "First order", "Total"));
+                for (int i : ranking(total[o])) {
+                    text.append(String.format("  %-34s %7.3f +- %5.3f %7.3f +- %5.3f%n", factors[i],
+                        firstOrder[o][i], firstOrderError[o][i], total[o][i], totalError[o][i]));
+                }
+            }
+            return text.toString();
+        }
+    }
+
+    // ==================== INNER CLASS: ElementaryEffects ====================
+
+    /**
+     * Morris screening per output and factor: mu* is the mean absolute change in the
+     * output over a factor's full range, sigma the standard deviation of the signed
+     * change (large when the factor acts non-linearly or through interactions).
+     */
+    public static class ElementaryEffects {
+        public final String[] factors;
+        public final double[][] meanAbsolute;
+        public final double[][] deviation;
+        public final long trajectories;
+        public final long runs;
+
+        ElementaryEffects(String[] factors, int outputs, long trajectories, long runs) {
+            this.factors = factors;
+            this.meanAbsolute = new double[outputs][factors.length];
+            this.deviation = new double[outputs][factors.length];
+            this.trajectories = trajectories;
+            this.runs = runs;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format(
+                "Morris screening from %d trajectories (%d colony runs)%n", trajectories, runs));
+            for (Output output : Output.values()) {
+                int o = output.ordinal();
+                text.append(String.format("%n%s, by mu*:%n", output.label));
+                text.append(String.format("  %-34s %10s %10s%n", "Parameter", "mu*", "sigma"));
+                for (int i : ranking(meanAbsolute[o])) {
+                    text.append(String.format("  %-34s %10.4f %10.4f%n", factors[i],
+                        meanAbsolute[o][i], deviation[o][i]));
+                }
+            }
+            return text.toString();
+        }
+    }
+
+    private static int[] ranking(double[] values) {
+        return IntStream.range(0, values.length).boxed()
+            .sorted(Comparator.comparingDouble(i -> -values[i]))
+            .mapToInt(Integer::intValue).toArray();
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * @param start   colony state every run starts from; it is copied, never modified
+     * @param pool    event distribution whose weights are varied, with its weather and
+     *                current regime
+     * @param nominal action effects whose strengths are varied
+     */
+    public SensitivityAnalysis(ColonySimulator start, RandomEvent pool, ColonyAction.Effects nominal,
+                               int horizon, int actionInterval, int scenariosPerPoint) {
+        this.start = new ColonySimulator(start);
+        this.nominal = nominal;
+        this.horizon = horizon;
+        this.actionInterval = actionInterval;
+        this.scenariosPerPoint = scenariosPerPoint;
+
+        int n = pool.getEventCount();
+        this.events = new RandomEvent.Event[n];
+        this.baseWeights = new double[n];
+        this.tierOfEvent = new int[n];
+        List<Double> distinct = new ArrayList<>();
+        for (int e = 0; e < n; e++) {
+            events[e] = pool.getEvent(e);
+            baseWeights[e] = pool.getWeight(e);
+            if (!distinct.contains(baseWeights[e])) distinct.add(baseWeights[e]);
+        }
+        this.weather = pool.getWeather();
+        this.startRegime = pool.getRegime();
+        WeatherModel.Regime[] regimes = WeatherModel.Regime.values();
+        this.regimeWeights = new double[regimes.length][];
+        for (WeatherModel.Regime regime : regimes) {
+            regimeWeights[regime.ordinal()] = weather != null ? weather.getEventProbabilities(regime)
+                : baseWeights.clone();
+        }
+
+        // Tiers are ranges of base weight, [tierLow, tierHigh]; the closest neighbours
+        // (by weight ratio) are merged until the Sobol design fits
+        distinct.sort(null);
+        List<Double> tierLow = new ArrayList<>(distinct);
+        List<Double> tierHigh = new ArrayList<>(distinct);
+        while (tierLow.size() > MAX_WEIGHT_TIERS) {
+            int closest = 0;
+            for (int t = 1; t + 1 < tierLow.size(); t++) {
+                if (tierLow.get(t + 1) / tierHigh.get(t) < tierLow.get(closest + 1) / tierHigh.get(closest)) {
+                    closest = t;
+                }
+            }
+            tierHigh.set(closest, tierHigh.remove(closest + 1));
+            tierLow.remove(closest + 1);
+        }
+        int tiers = tierLow.size();
+        int[] tierSizes = new int[tiers];
+        for (int e = 0; e < n; e++) {
+            int tier = 0;
+            while (baseWeights[e] > tierHigh.get(tier)) tier++;
+            tierOfEvent[e] = tier;
+            tierSizes[tier]++;
+        }
+
+        this.factorNames = new String[ACTION_FACTORS + tiers];
+        factorNames[0] = "Lay More Eggs (r multiplier)";
+        factorNames[1] = "Lay Less Eggs (r multiplier)";
+        factorNames[2] = "Build Chambers (K multiplier)";
+        factorNames[3] = "Build Chambers (A multiplier)";
+        factorNames[4] = "Destroy Chambers (K multiplier)";
+        factorNames[5] = "Destroy Chambers (A multiplier)";
+        for (int t = 0; t < tiers; t++) {
+            String weight = tierLow.get(t).equals(tierHigh.get(t)) ? "weight " + tierLow.get(t)
+                : "weights " + tierLow.get(t) + "-" + tierHigh.get(t);
+            factorNames[ACTION_FACTORS + t] = String.format("Event %s (%d event%s)",
+                weight, tierSizes[t], tierSizes[t] == 1 ? "" : "s");
+        }
+    }
+
+    public String[] getFactorNames() { return factorNames.clone(); }
+    public int getFactorCount() { return factorNames.length; }
+
+    // ==================== MODEL ====================
+
+    /**
+     * Scores a parameter point u (one value in [0, 1] per factor) on the scenarios
+     * starting at scenarioSeed: out[EXTINCTION] is the fraction that went extinct,
+     * out[FINAL_POPULATION] the mean final population with extinct runs counting 0.
+     */
+    void evaluate(double[] u, long scenarioSeed, double[] out) {
+        ColonyAction.Effects effects = new ColonyAction.Effects(
+            scaleEffect(nominal.layMoreEggsRMultiplier, u[0]),
+            scaleEffect(nominal.layLessEggsRMultiplier, u[1]),
+            scaleEffect(nominal.buildChambersKMultiplier, u[2]),
+            scaleEffect(nominal.buildChambersAMultiplier, u[3]),
+            scaleEffect(nominal.destroyChambersKMultiplier, u[4]),
+            scaleEffect(nominal.destroyChambersAMultiplier, u[5]),
+            nominal.nannyAntsKFraction, nominal.cullPopulationMultiplier, nominal.breedingFrenzyRMultiplier);
+
+        double[] tierScale = new double[events.length];
+        for (int e = 0; e < events.length; e++) {
+            tierScale[e] = Math.pow(2, 2 * u[ACTION_FACTORS + tierOfEvent[e]] - 1);
+        }
+        double[][] cumulative = new double[regimeWeights.length][];
+        for (int regime = 0; regime < regimeWeights.length; regime++) {
+            double[] weights = new double[events.length];
+            for (int e = 0; e < events.length; e++) {
+                weights[e] = regimeWeights[regime][e] * tierScale[e];
+            }
+            cumulative[regime] = ExtinctionEstimator.cumulative(weights);
+        }
+
+        int extinct = 0;
+        double totalPopulation = 0;
+        for (int s = 0; s < scenariosPerPoint; s++) {
+            // Event draws and player choices come from separate streams, so one never shifts the other
+            SplittableRandom eventRandom = new SplittableRandom(scenarioSeed + s);
+            SplittableRandom actionRandom = eventRandom.split();
+            ColonySimulator sim = new ColonySimulator(start);
+            WeatherModel.Regime regime = startRegime;
+            for (int day = 0; day < horizon && !sim.isExtinct(); day++) {
+                if (day % actionInterval == 0) {
+                    sim.apply(PLAYER_ACTIONS[actionRandom.nextInt(PLAYER_ACTIONS.length)], effects);
+                }
+                if (weather != null) {
+                    regime = weather.nextRegime(regime, eventRandom.nextDouble());
+                }
+                sim.step(events[ExtinctionEstimator.sampleIndex(cumulative[regime.ordinal()], eventRandom.nextDouble())]);
+            }
+            if (sim.isExtinct()) {
+                extinct++;
+            } else {
+                totalPopulation += sim.getPopulation();
+            }
+        }
+        out[Output.EXTINCTION.ordinal()] = (double) extinct / scenariosPerPoint;
+        out[Output.FINAL_POPULATION.ordinal()] = totalPopulation / scenariosPerPoint;
+    }
+
+    private static double scaleEffect(double multiplier, double u) {
+        return 1 + (multiplier - 1) * (0.5 + u);
+    }
+
+    // ==================== SOBOL INDICES ====================
+
+    /**
+     * Estimates Sobol indices from sampleRows rows of the Saltelli design, i.e.
+     * sampleRows * (factors + 2) parameter points. progress, if not null, receives
+     * the estimates so far after every batch of rows.
+     */
+    public SobolIndices sobol(int sampleRows, long seed, Consumer<SobolIndices> progress) {
+        int d = factorNames.length;
+        int outputs = Output.values().length;
+        SobolSequence sequence = new SobolSequence(2 * d);
+        RunningStats[] outputStats = new RunningStats[outputs];
+        RunningStats[][] firstTerms = new RunningStats[outputs][d];
+        RunningStats[][] totalTerms = new RunningStats[outputs][d];
+        for (int o = 0; o < outputs; o++) {
+            outputStats[o] = new RunningStats();
+            for (int i = 0; i < d; i++) {
+                firstTerms[o][i] = new RunningStats();
+                totalTerms[o][i] = new RunningStats();
+            }
+        }
+
+        double[][] points = new double[BATCH_ROWS][2 * d];
+        // Per row: f(A), f(B), then f(AB_i) for each factor i, each with one value per output
+        double[][][] values = new double[BATCH_ROWS][d + 2][outputs];
+        double[] center = null;
+        SobolIndices indices = null;
+        for (int done = 0; done < sampleRows; ) {
+            int batch = Math.min(BATCH_ROWS, sampleRows - done);
+            for (int row = 0; row < batch; row++) {
+                sequence.next(points[row]);
+            }
+            int firstRow = done;
+            IntStream.range(0, batch).parallel().forEach(row -> {
+                double[] point = points[row];
+                double[] a = new double[d];
+                double[] b = new double[d];
+                System.arraycopy(point, 0, a, 0, d);
+                System.arraycopy(point, d, b, 0, d);
+                long scenarioSeed = seed + (long) (firstRow + row) * scenariosPerPoint;
+                evaluate(a, scenarioSeed, values[row][0]);
+                evaluate(b, scenarioSeed, values[row][1]);
+                double[] mixed = new double[d];
+                for (int i = 0; i < d; i++) {
+                    System.arraycopy(a, 0, mixed, 0, d);
+                    mixed[i] = b[i];
+                    evaluate(mixed, scenarioSeed, values[row][2 + i]);
+                }
+            });
+
+            if (center == null) {
+                center = new double[outputs];
+                for (int row = 0; row < batch; row++) {
+                    for (int o = 0; o < outputs; o++) {
+                        center[o] += values[row][0][o] / batch;
+                    }
+                }
+            }
+            for (int row = 0; row < batch; row++) {
+                for (int o = 0; o < outputs; o++) {
+                    double fA = values[row][0][o];
+                    double fB = values[row][1][o];
+                    outputStats[o].add(fA);
+                    outputStats[o].add(fB);
+                    for (int i = 0; i < d; i++) {
+                        double fMixed = values[row][2 + i][o];
+                        firstTerms[o][i].add((fB - center[o]) * (fMixed - fA));
+                        totalTerms[o][i].add(0.5 * (fA - fMixed) * (fA - fMixed));
+                    }
+                }
+            }
+            done += batch;
+
+            indices = new SobolIndices(factorNames, outputs, done, (long) done * (d + 2) * scenariosPerPoint);
+            for (int o = 0; o < outputs; o++) {
+                double variance = outputStats[o].getVariance();
+                indices.variance[o] = variance;
+                if (variance <= 0) continue;
+                for (int i = 0; i < d; i++) {
+                    indices.firstOrder[o][i] = firstTerms[o][i].getMean() / variance;
+                    indices.firstOrderError[o][i] = Z_95 * firstTerms[o][i].getStandardError() / variance;
+                    indices.total[o][i] = totalTerms[o][i].getMean() / variance;
+                    indices.totalError[o][i] = Z_95 * totalTerms[o][i].getStandardError() / variance;
+                }
+            }
+            if (progress != null) progress.accept(indices);
+        }
+        return indices;
+    }
+
+    // ==================== MORRIS SCREENING ====================
+
+    /**
+     * Morris screening with the given number of trajectories, each costing
+     * factors + 1 parameter points. Trajectories start on the lower half of the grid
+     * (from a Sobol sequence) and step every factor up by 2/3 in a random order.
+     * progress, if not null, receives the effects so far after every batch.
+     */
+    public ElementaryEffects morris(int trajectories, long seed, Consumer<ElementaryEffects> progress) {
+        int d = factorNames.length;
+        int outputs = Output.values().length;
+        SobolSequence sequence = new SobolSequence(d);
+        SplittableRandom orderRandom = new SplittableRandom(seed);
+        RunningStats[][] absolute = new RunningStats[outputs][d];
+        RunningStats[][] signed = new RunningStats[outputs][d];
+        for (int o = 0; o < outputs; o++) {
+            for (int i = 0; i < d; i++) {
+                absolute[o][i] = new RunningStats();
+                signed[o][i] = new RunningStats();
+            }
+        }
+
+        double[][] starts = new double[BATCH_ROWS][d];
+        int[][] orders = new int[BATCH_ROWS][d];
+        double[][][] effects = new double[BATCH_ROWS][d][outputs];
+        ElementaryEffects result = null;
+        for (int done = 0; done < trajectories; ) {
+            int batch = Math.min(BATCH_ROWS, trajectories - done);
+            for (int t = 0; t < batch; t++) {
+                sequence.next(starts[t]);
+                for (int i = 0; i < d; i++) {
+                    starts[t][i] = starts[t][i] < 0.5 ? 0 : 1.0 / 3;
+                    orders[t][i] = i;
+                }
+                for (int i = d - 1; i > 0; i--) {
+                    int j = orderRandom.nextInt(i + 1);
+                    int swap = orders[t][i];
+                    orders[t][i] = orders[t][j];
+                    orders[t][j] = swap;
+                }
+            }
+            int firstTrajectory = done;
+            IntStream.range(0, batch).parallel().forEach(t -> {
+                long scenarioSeed = seed + (long) (firstTrajectory + t) * scenariosPerPoint;
+                double[] point = starts[t].clone();
+                double[] before = new double[outputs];
+                double[] after = new double[outputs];
+                evaluate(point, scenarioSeed, before);
+                for (int i : orders[t]) {
+                    point[i] += MORRIS_DELTA;
+                    evaluate(point, scenarioSeed, after);
+                    for (int o = 0; o < outputs; o++) {
+                        effects[t][i][o] = (after[o] - before[o]) / MORRIS_DELTA;
+                    }
+                    double[] swap = before;
+                    before = after;
+                    after = swap;
+                }
+            });
+
+            for (int t = 0; t < batch; t++) {
+                for (int i = 0; i < d; i++) {
+                    for (int o = 0; o < outputs; o++) {
+                        absolute[o][i].add(Math.abs(effects[t][i][o]));
+                        signed[o][i].add(effects[t][i][o]);
+                    }
+                }
+            }
+            done += batch;
+
+            result = new ElementaryEffects(factorNames, outputs, done, (long) done * (d + 1) * scenariosPerPoint);
+            for (int o = 0; o < outputs; o++) {
+                for (int i = 0; i < d; i++) {
+                    result.meanAbsolute[o][i] = absolute[o][i].getMean();
+                    result.deviation[o][i] = Math.sqrt(signed[o][i].getVariance());
+                }
+            }
+            if (progress != null) progress.accept(result);
+        }
+        return result;
+    }
+}
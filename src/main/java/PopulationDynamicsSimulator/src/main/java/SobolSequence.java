@@ -0,0 +1,96 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+/**
+ * Sobol low-discrepancy points in the unit cube, for sampling parameter spaces more
+ * evenly than independent random draws.
+ *
+ * Dimension 1 is the van der Corput sequence; the others use the primitive
+ * polynomials and initial direction numbers of Joe and Kuo (new-joe-kuo-6.21201).
+ * Points come out in Gray-code order, so each one is the previous one XORed with a
+ * single direction number. The all-zero first point is skipped.
+ */
+public class SobolSequence {
+    private static final int BITS = 32;
+    private static final double SCALE = 1.0 / (1L << BITS);
+
+    // Per dimension from 2 on: degree s, polynomial coefficients a, initial m_1..m_s
+    private static final int[][] PARAMETERS = {
+        {1, 0, 1},
+        {2, 1, 1, 3},
+        {3, 1, 1, 3, 1},
+        {3, 2, 1, 1, 1},
+        {4, 1, 1, 1, 3, 3},
+        {4, 4, 1, 3, 5, 13},
+        {5, 2, 1, 1, 5, 5, 17},
+        {5, 4, 1, 1, 5, 5, 5},
+        {5, 7, 1, 1, 7, 11, 19},
+        {5, 11, 1, 1, 5, 1, 1},
+        {5, 13, 1, 1, 1, 3, 11},
+        {5, 14, 1, 3, 5, 5, 31},
+        {6, 1, 1, 3, 3, 9, 7, 49},
+        {6, 13, 1, 1, 1, 15, 21, 21},
+        {6, 16, 1, 3, 1, 13, 27, 49},
+        {6, 19, 1, 1, 1, 15, 7, 5},
+        {6, 22, 1, 3, 1, 15, 13, 25},
+        {6, 25, 1, 1, 5, 5, 19, 61},
+        {7, 1, 1, 3, 7, 11, 23, 15, 103},
+        {7, 4, 1, 3, 7, 13, 13, 15, 69},
+        {7, 7, 1, 1, 3, 13, 7, 35, 63},
+        {7, 8, 1, 3, 5, 9, 1, 25, 53}
+    };
+
+    public static final int MAX_DIMENSIONS = PARAMETERS.length + 1;
+
+    private final int dimensions;
+    private final int[][] direction;    // direction[d][k] = v_{k+1} scaled to 32 bits
+    private final int[] state;
+    private long index;
+
+    public SobolSequence(int dimensions) {
+        if (dimensions < 1 || dimensions > MAX_DIMENSIONS) {
+            throw new IllegalArgumentException("Sobol dimensions must be between 1 and " + MAX_DIMENSIONS);
+        }
+        this.dimensions = dimensions;
+        this.direction = new int[dimensions][BITS];
+        this.state = new int[dimensions];
+
+        for (int k = 0; k < BITS; k++) {
+            direction[0][k] = 1 << (BITS - 1 - k);
+        }
+        for (int d = 1; d < dimensions; d++) {
+            int[] p = PARAMETERS[d - 1];
+            int s = p[0];
+            int a = p[1];
+            int[] v = direction[d];
+            for (int k = 0; k < s && k < BITS; k++) {
+                v[k] = p[2 + k] << (BITS - 1 - k);
+            }
+            // v_k = a_1 v_{k-1} ^ ... ^ a_{s-1} v_{k-s+1} ^ v_{k-s} ^ (v_{k-s} >> s)
+            for (int k = s; k < BITS; k++) {
+                int value = v[k - s] ^ (v[k - s] >>> s);
+                for (int j = 1; j < s; j++) {
+                    if ((a >>> (s - 1 - j) & 1) != 0) value ^= v[k - j];
+                }
+                v[k] = value;
+            }
+        }
+    }
+
+    public int getDimensions() { return dimensions; }
+
+    /**
+     * Writes the next point, each coordinate in [0, 1), into point[0 .. dimensions).
+     */
+    public void next(double[] point) {
+        if (index >= (1L << BITS) - 1) {
+            throw new IllegalStateException("Sobol sequence exhausted");
+        }
+        // The point after index n differs in the direction of n's lowest zero bit
+        int bit = Long.numberOfTrailingZeros(~index);
+        index++;
+        for (int d = 0; d < dimensions; d++) {
+            state[d] ^= direction[d][bit];
+            point[d] = (state[d] & 0xFFFFFFFFL) * SCALE;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.List;
+
+/**
+ * Power spectrum of the most recent WINDOW days of the population history, kept up
+ * to date as days are appended, and the dominant cycle length it shows.
+ *
+ * The unwindowed DFT X_k (k = 0..N/2) of the window is the state. A new day slides
+ * it along with one update per bin, X_k <- (X_k - x_oldest + x_new) e^{2 pi i k/N},
+ * which costs O(N) instead of a new O(N log N) transform. The Hann window is applied
+ * afterwards in the frequency domain (0.5 X_k - 0.25 (X_{k-1} + X_{k+1})), and the
+ * mean is removed by leaving out X_0. Rounding drift is cleared by recomputing the
+ * DFT with a full FFT every N slides, and whenever enough days arrive at once (a
+ * fast-forward) that the full transform is cheaper.
+ *
+ * The full transform is a real-input FFT: the N samples are packed into N/2 complex
+ * values, transformed in place by an iterative radix-2 FFT and then split. All
+ * buffers are allocated once. The cost per day does not depend on the history length.
+ */
+public class SpectrumAnalyzer {
+    public static final int WINDOW = 1024;
+    private static final int MIN_WINDOW = 64;
+    private static final double PEAK_RATIO = 8.0;   // Peak power over mean power that counts as a cycle
+
+    // Twiddles e^{-2 pi i j / WINDOW} for j < WINDOW / 2; smaller sizes use a stride
+    private final double[] cosTable = new double[WINDOW / 2];
+    private final double[] sinTable = new double[WINDOW / 2];
+
+    // FFT work buffers (N/2 complex values)
+    private final double[] workRe = new double[WINDOW / 2];
+    private final double[] workIm = new double[WINDOW / 2];
+
+    // Unwindowed DFT of the current window, bins 0..N/2
+    private final double[] binRe = new double[WINDOW / 2 + 1];
+    private final double[] binIm = new double[WINDOW / 2 + 1];
+
+    // Hann-windowed power, bins 0..N/2 (bin 0 is always 0)
+    private final double[] power = new double[WINDOW / 2 + 1];
+
+    private int size;               // Current window length (power of two, 0 until MIN_WINDOW days exist)
+    private int consumed;           // History entries already included
+    private int slidesSinceSync;
+    private double dominantPeriod = Double.NaN;
+    private double peakRatio;
+
+    public SpectrumAnalyzer() {
+        for (int j = 0; j < WINDOW / 2; j++) {
+            double angle = -2 * Math.PI * j / WINDOW;
+            cosTable[j] = Math.cos(angle);
+            sinTable[j] = Math.sin(angle);
+        }
+    }
+
+    public void reset() {
+        size = 0;
+        consumed = 0;
+        dominantPeriod = Double.NaN;
+        peakRatio = 0;
+    }
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Brings the spectrum up to date with the history, which must only have grown
+     * since the last call (a shorter list starts over).
+     */
+    public void update(List<Double> history) {
+        int count = history.size();
+        if (count < consumed) reset();
+        if (count == consumed) return;
+
+        int newSize = Math.min(WINDOW, Integer.highestOneBit(Math.max(1, count)));
+        if (newSize < MIN_WINDOW) {
+            consumed = count;
+            return;
+        }
+
+        int appended = count - consumed;
+        // Sliding costs ~N per day and the full transform ~N log2 N
+        boolean slide = newSize == size && appended < Integer.numberOfTrailingZeros(size)
+            && slidesSinceSync + appended < size;
+        if (slide) {
+            for (int i = consumed; i < count; i++) {
+                slide(history.get(i - size), history.get(i));
+            }
+            slidesSinceSync += appended;
+        } else {
+            size = newSize;
+            transform(history, count - size);
+            slidesSinceSync = 0;
+        }
+        consumed = count;
+        computePower();
+    }
+
+    private void slide(double oldest, double newest) {
+        double delta = newest - oldest;
+        int stride = WINDOW / size;
+        int half = size / 2;
+        for (int k = 0; k <= half; k++) {
+            // e^{+2 pi i k / N} is the conjugate of the table entry; k = N/2 gives -1
+            double c, s;
+            if (k < half) {
+                c = cosTable[k * stride];
+                s = -sinTable[k * stride];
+            } else {
+                c = -1;
+                s = 0;
+            }
+            double re = binRe[k] + delta;
+            double im = binIm[k];
+            binRe[k] = re * c - im * s;
+            binIm[k] = re * s + im * c;
+        }
+    }
+
+    /**
+     * Full real-input FFT of history[start .. start + size) into the bins.
+     */
+    private void transform(List<Double> history, int start) {
+        int half = size / 2;
+        for (int j = 0; j < half; j++) {
+            workRe[j] = history.get(start + 2 * j);
+            workIm[j] = history.get(start + 2 * j + 1);
+        }
+        fft(half);
+
+        // Split the packed transform into the spectrum of the real input
+        int stride = WINDOW / size;
+        for (int k = 0; k <= half; k++) {
+            int a = k % half;
+            int b = (half - k) % half;
+            double evenRe = 0.5 * (workRe[a] + workRe[b]);
+            double evenIm = 0.5 * (workIm[a] - workIm[b]);
+            double oddRe = 0.5 * (workIm[a] + workIm[b]);
+            double oddIm = -0.5 * (workRe[a] - workRe[b]);
+            double c = k < half ? cosTable[k * stride] : -1;
+            double s = k < half ? sinTable[k * stride] : 0;
+            binRe[k] = evenRe + c * oddRe - s * oddIm;
+            binIm[k] = evenIm + c * oddIm + s * oddRe;
+        }
+    }
+
+    /**
+     * In-place iterative radix-2 FFT of the first n entries of the work buffers.
+     */
+    private void fft(int n) {
+        // Bit-reversal permutation
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = workRe[i]; workRe[i] = workRe[j]; workRe[j] = t;
+                t = workIm[i]; workIm[i] = workIm[j]; workIm[j] = t;
+            }
+        }
+        // Butterflies; an n-point stage uses every (WINDOW / len)-th twiddle
+        for (int len = 2; len <= n; len <<= 1) {
+            int stride = WINDOW / len;
+            int halfLen = len / 2;
+            for (int i = 0; i < n; i += len) {
+                for (int j = 0; j < halfLen; j++) {
+                    double c = cosTable[j * stride];
+                    double s = sinTable[j * stride];
+                    int p = i + j;
+                    int q = p + halfLen;
+                    double re = workRe[q] * c - workIm[q] * s;
+                    double im = workRe[q] * s + workIm[q] * c;
+                    workRe[q] = workRe[p] - re;
+                    workIm[q] = workIm[p] - im;
+                    workRe[p] += re;
+                    workIm[p] += im;
+                }
+            }
+        }
+    }
+
+    // ==================== SPECTRUM AND PEAK ====================
+
+    /**
+     * Hann-windowed power per bin, then the strongest bin of period shorter than the
+     * window, refined by a parabola through the log power of its neighbours.
+     */
+    private void computePower() {
+        int half = size / 2;
+        double total = 0;
+        int best = 0;
+        power[0] = 0;
+        for (int k = 1; k <= half; k++) {
+            // Neighbours: X_0 is dropped (mean removal); X_{N/2+1} mirrors X_{N/2-1}
+            double prevRe = k - 1 == 0 ? 0 : binRe[k - 1];
+            double prevIm = k - 1 == 0 ? 0 : binIm[k - 1];
+            double nextRe = k < half ? binRe[k + 1] : binRe[k - 1];
+            double nextIm = k < half ? binIm[k + 1] : -binIm[k - 1];
+            double re = 0.5 * binRe[k] - 0.25 * (prevRe + nextRe);
+            double im = 0.5 * binIm[k] - 0.25 * (prevIm + nextIm);
+            power[k] = re * re + im * im;
+            total += power[k];
+            if (k >= 2 && (best == 0 || power[k] > power[best])) best = k;
+        }
+
+        double mean = total / half;
+        peakRatio = mean > 0 ? power[best] / mean : 0;
+        if (peakRatio < PEAK_RATIO) {
+            dominantPeriod = Double.NaN;
+            return;
+        }
+        double peak = best;
+        if (best < half) {
+            double l = Math.log(power[best - 1] + 1e-300);
+            double c = Math.log(power[best]);
+            double r = Math.log(power[best + 1] + 1e-300);
+            double denominator = l - 2 * c + r;
+            if (denominator < 0) peak += 0.5 * (l - r) / denominator;
+        }
+        dominantPeriod = size / peak;
+    }
+
+    // ==================== RESULTS ====================
+
+    /** Window length in days, or 0 until there is enough history. */
+    public int getSize() { return size; }
+
+    /** Windowed power at bin k (frequency k / getSize() cycles per day), 0 <= k <= getSize() / 2. */
+    public double getPower(int k) { return power[k]; }
+
+    /** Length in days of the dominant cycle, or NaN if no bin stands out. */
+    public double getDominantPeriod() { return dominantPeriod; }
+
+    /** How far the strongest bin stands above the mean power. */
+    public double getPeakRatio() { return peakRatio; }
+}
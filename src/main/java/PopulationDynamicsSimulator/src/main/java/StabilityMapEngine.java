@@ -0,0 +1,238 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Computes two-parameter Lyapunov/period maps over (r, A) or (r, K) tile by tile on a
+ * thread pool. Finished tiles are cached by zoom level and tile position, so panning
+ * only computes tiles that have not been seen before.
+ */
+public class StabilityMapEngine {
+
+    /**
+     * Which parameter runs along the vertical axis; the other one stays fixed.
+     */
+    public enum Mode {
+        THRESHOLD("A"),
+        CAPACITY("K");
+
+        public final String label;
+
+        Mode(String label) {
+            this.label = label;
+        }
+    }
+
+    public static final int TILE_SIZE = 64;
+    public static final int BASE_WIDTH = 512;   // Pixels spanning r in [0, R_MAX] at zoom level 0
+    public static final int BASE_HEIGHT = 512;  // Pixels spanning the vertical parameter at zoom level 0
+    public static final double R_MAX = 3.0;
+
+    private static final int MAX_CACHED_TILES = 512;
+    private static final int WARMUP = 500;
+    private static final int SAMPLES = 500;
+
+    // Colors for the map
+    private static final int EXTINCT_COLOR = new Color(50, 50, 50).getRGB();
+    private static final int LONG_PERIOD_COLOR = new Color(150, 90, 200).getRGB();
+    private static final int OUTSIDE_COLOR = Color.WHITE.getRGB();
+    private static final int[] PERIOD_COLORS = {
+        new Color(30, 70, 170).getRGB(),   // Period 1 (stable colony)
+        new Color(40, 150, 80).getRGB(),   // Period 2
+        new Color(220, 100, 180).getRGB(), // Period 3
+        new Color(40, 180, 190).getRGB(),  // Period 4
+    };
+
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+        Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+            Thread thread = new Thread(runnable, "stability-map");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+
+    private static final ThreadLocal<AttractorDetector> DETECTOR =
+        ThreadLocal.withInitial(() -> new AttractorDetector(16, 1e-9));
+
+    private final Mode mode;
+    private final Map<TileKey, BufferedImage> cache;
+    private final Set<TileKey> pending;
+    private volatile Set<TileKey> wanted;
+
+    // ==================== INNER CLASS: TileKey ====================
+
+    /**
+     * Identifies a tile by zoom level and position, plus the fixed parameter and the
+     * vertical axis span it was computed for.
+     */
+    public static final class TileKey {
+        final int zoom;
+        final int tileX;
+        final int tileY;
+        final double fixedValue;
+        final double span;
+
+        public TileKey(int zoom, int tileX, int tileY, double fixedValue, double span) {
+            this.zoom = zoom;
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.fixedValue = fixedValue;
+            this.span = span;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TileKey)) return false;
+            TileKey k = (TileKey) o;
+            return zoom == k.zoom && tileX == k.tileX && tileY == k.tileY
+                && fixedValue == k.fixedValue && span == k.span;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(zoom, tileX, tileY, fixedValue, span);
+        }
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    public StabilityMapEngine(Mode mode) {
+        this.mode = mode;
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, BufferedImage> eldest) {
+                return size() > MAX_CACHED_TILES;
+            }
+        };
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.wanted = ConcurrentHashMap.newKeySet();
+    }
+
+    public Mode getMode() { return mode; }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Returns the tile if it is cached. Otherwise schedules it on the pool (once) and
+     * returns null; onReady is run on the event dispatch thread when it is done.
+     */
+    public BufferedImage getTile(TileKey key, Runnable onReady) {
+        synchronized (cache) {
+            BufferedImage tile = cache.get(key);
+            if (tile != null) {
+                return tile;
+            }
+        }
+        if (pending.add(key)) {
+            POOL.execute(() -> {
+                try {
+                    // Skip tiles that were panned out of view before a thread got to them
+                    if (!wanted.contains(key)) return;
+                    BufferedImage tile = computeTile(key);
+                    synchronized (cache) {
+                        cache.put(key, tile);
+                    }
+                    SwingUtilities.invokeLater(onReady);
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Tells the engine which tiles are currently on screen. Queued tiles outside this
+     * set are dropped when their turn comes.
+     */
+    public void setWantedTiles(Set<TileKey> visible) {
+        Set<TileKey> next = ConcurrentHashMap.newKeySet();
+        next.addAll(visible);
+        wanted = next;
+    }
+
+    /** r value at the centre of a world pixel column. */
+    public static double rAt(long worldX, int zoom) {
+        return (worldX + 0.5) * R_MAX / ((double) BASE_WIDTH * (1L << zoom));
+    }
+
+    /** Vertical parameter value at the centre of a world pixel row (rows grow downward). */
+    public static double paramAt(long worldY, int zoom, double span) {
+        return span - (worldY + 0.5) * span / ((double) BASE_HEIGHT * (1L << zoom));
+    }
+
+    // ==================== TILE COMPUTATION ====================
+
+    private BufferedImage computeTile(TileKey key) {
+        int[] pixels = new int[TILE_SIZE * TILE_SIZE];
+        long originX = (long) key.tileX * TILE_SIZE;
+        long originY = (long) key.tileY * TILE_SIZE;
+
+        for (int py = 0; py < TILE_SIZE; py++) {
+            double param = paramAt(originY + py, key.zoom, key.span);
+            for (int px = 0; px < TILE_SIZE; px++) {
+                double r = rAt(originX + px, key.zoom);
+                pixels[py * TILE_SIZE + px] = classifyPixel(r, param, key.fixedValue);
+            }
+        }
+
+        BufferedImage tile = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+        tile.setRGB(0, 0, TILE_SIZE, TILE_SIZE, pixels, 0, TILE_SIZE);
+        return tile;
+    }
+
+    /**
+     * Colors one (r, parameter) point by its attractor: period for stable cycles,
+     * red to yellow by Lyapunov exponent for chaos, dark gray for extinction.
+     */
+    private int classifyPixel(double r, double param, double fixedValue) {
+        if (r <= 0 || r > R_MAX || param <= 0) {
+            return OUTSIDE_COLOR;
+        }
+        double K = mode == Mode.THRESHOLD ? fixedValue : param;
+        double A = mode == Mode.THRESHOLD ? param : fixedValue;
+
+        AttractorDetector detector = DETECTOR.get();
+        int type = detector.detect(K / 2.0, r, K, A, WARMUP, 1e-10, K * 10);
+        if (type == AttractorDetector.EXTINCT) {
+            return EXTINCT_COLOR;
+        }
+        if (detector.isResolved()) {
+            int period = detector.getPeriod();
+            return period <= PERIOD_COLORS.length ? PERIOD_COLORS[period - 1] : LONG_PERIOD_COLOR;
+        }
+
+        double lyapunov = sampleLyapunov(detector.getLastX(), r, K, A);
+        if (lyapunov <= 0) {
+            return LONG_PERIOD_COLOR;
+        }
+        float strength = (float) Math.min(1.0, lyapunov / 1.5);
+        return Color.HSBtoRGB(0.15f * strength, 0.9f, 0.75f + 0.25f * strength);
+    }
+
+    private static double sampleLyapunov(double x, double r, double K, double A) {
+        double lyapunov = 0;
+        int validSamples = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double derivative = AntColonyGame.populationModelDerivative(x, r, K, A);
+            if (Math.abs(derivative) > 1e-15) {
+                lyapunov += Math.log(Math.abs(derivative));
+                validSamples++;
+            }
+            x = AntColonyGame.populationModel(x, r, K, A);
+            if (x < 1e-10) x = 1e-10;
+            if (x > K * 10) x = K * 10;
+        }
+        return validSamples > 0 ? lyapunov / validSamples : 0;
+    }
+}
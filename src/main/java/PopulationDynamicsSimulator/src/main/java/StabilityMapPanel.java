@@ -0,0 +1,151 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.swing.JPanel;
+
+/**
+ * Zoomable and pannable view of a two-parameter stability map. Tiles are drawn
+ * as they arrive from the StabilityMapEngine, so the map fills in progressively.
+ */
+public class StabilityMapPanel extends JPanel {
+    private static final int MARGIN = 50;
+    private static final int MAX_ZOOM = 12;
+
+    private final StabilityMapEngine engine;
+    private final double fixedValue;   // K for (r, A) maps, A for (r, K) maps
+    private final double span;         // Vertical axis covers [0, span]
+    private final double currentR;
+    private final double currentParam;
+
+    private int zoom = 0;
+    private long viewX = 0, viewY = 0;  // World pixel at the top-left of the plot area
+    private Point lastMousePos;
+
+    public StabilityMapPanel(StabilityMapEngine engine, double r, double K, double A) {
+        this.engine = engine;
+        boolean thresholdMode = engine.getMode() == StabilityMapEngine.Mode.THRESHOLD;
+        this.fixedValue = thresholdMode ? K : A;
+        this.span = thresholdMode ? K : 4 * K;
+        this.currentR = r;
+        this.currentParam = thresholdMode ? A : K;
+        setBackground(Color.WHITE);
+
+        addMouseWheelListener(e -> {
+            int newZoom = Math.max(0, Math.min(MAX_ZOOM, zoom + (e.getWheelRotation() < 0 ? 1 : -1)));
+            if (newZoom == zoom) return;
+            // Keep the world point under the cursor fixed while zooming
+            long cursorX = viewX + e.getX() - MARGIN;
+            long cursorY = viewY + e.getY() - MARGIN;
+            if (newZoom > zoom) {
+                viewX = cursorX * 2 - (e.getX() - MARGIN);
+                viewY = cursorY * 2 - (e.getY() - MARGIN);
+            } else {
+                viewX = cursorX / 2 - (e.getX() - MARGIN);
+                viewY = cursorY / 2 - (e.getY() - MARGIN);
+            }
+            zoom = newZoom;
+            repaint();
+        });
+
+        addMouseListener(new java.awt.event.MouseAdapter() {
+            @Override
+            public void mousePressed(java.awt.event.MouseEvent e) {
+                lastMousePos = e.getPoint();
+            }
+        });
+
+        addMouseMotionListener(new java.awt.event.MouseMotionAdapter() {
+            @Override
+            public void mouseDragged(java.awt.event.MouseEvent e) {
+                if (lastMousePos != null) {
+                    viewX -= e.getX() - lastMousePos.x;
+                    viewY -= e.getY() - lastMousePos.y;
+                    lastMousePos = e.getPoint();
+                    repaint();
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
+
+        int plotWidth = getWidth() - 2 * MARGIN;
+        int plotHeight = getHeight() - 2 * MARGIN;
+        if (plotWidth <= 0 || plotHeight <= 0) return;
+
+        // Work out which tiles are on screen before asking for any of them
+        int tile = StabilityMapEngine.TILE_SIZE;
+        long firstTileX = Math.floorDiv(viewX, tile);
+        long firstTileY = Math.floorDiv(viewY, tile);
+        long lastTileX = Math.floorDiv(viewX + plotWidth - 1, tile);
+        long lastTileY = Math.floorDiv(viewY + plotHeight - 1, tile);
+
+        Set<StabilityMapEngine.TileKey> visible = new HashSet<>();
+        for (long ty = firstTileY; ty <= lastTileY; ty++) {
+            for (long tx = firstTileX; tx <= lastTileX; tx++) {
+                visible.add(new StabilityMapEngine.TileKey(zoom, (int) tx, (int) ty, fixedValue, span));
+            }
+        }
+        engine.setWantedTiles(visible);
+
+        Graphics2D plot = (Graphics2D) g2.create(MARGIN, MARGIN, plotWidth, plotHeight);
+        int missing = 0;
+        for (StabilityMapEngine.TileKey key : visible) {
+            int px = (int) ((long) key.tileX * tile - viewX);
+            int py = (int) ((long) key.tileY * tile - viewY);
+            BufferedImage image = engine.getTile(key, this::repaint);
+            if (image != null) {
+                plot.drawImage(image, px, py, null);
+            } else {
+                missing++;
+                plot.setColor(new Color(235, 235, 235));
+                plot.fillRect(px, py, tile, tile);
+            }
+        }
+
+        // Mark where the colony currently sits
+        int markerX = (int) (currentR * StabilityMapEngine.BASE_WIDTH * (1L << zoom) / StabilityMapEngine.R_MAX - viewX);
+        int markerY = (int) ((span - currentParam) * StabilityMapEngine.BASE_HEIGHT * (1L << zoom) / span - viewY);
+        plot.setColor(Color.WHITE);
+        plot.setStroke(new BasicStroke(2));
+        plot.drawOval(markerX - 6, markerY - 6, 12, 12);
+        plot.dispose();
+
+        // Axes and labels
+        String paramLabel = engine.getMode().label;
+        g2.setColor(Color.GRAY);
+        g2.drawRect(MARGIN, MARGIN, plotWidth, plotHeight);
+        g2.setColor(Color.BLACK);
+        g2.setFont(GameFonts.SMALL);
+        g2.drawString(String.format("r=%.4f", StabilityMapEngine.rAt(viewX, zoom)), MARGIN, getHeight() - MARGIN + 15);
+        String rightLabel = String.format("r=%.4f", StabilityMapEngine.rAt(viewX + plotWidth, zoom));
+        FontMetrics fm = g2.getFontMetrics();
+        g2.drawString(rightLabel, getWidth() - MARGIN - fm.stringWidth(rightLabel), getHeight() - MARGIN + 15);
+        g2.drawString(String.format("%s=%.3f", paramLabel, StabilityMapEngine.paramAt(viewY, zoom, span)), 5, MARGIN - 5);
+        g2.drawString(String.format("%s=%.3f", paramLabel, StabilityMapEngine.paramAt(viewY + plotHeight, zoom, span)),
+            5, getHeight() - MARGIN + 30);
+
+        g2.setFont(GameFonts.TITLE);
+        String title = String.format("Stability Map (r, %s) at %s=%.2f", paramLabel,
+            paramLabel.equals("A") ? "K" : "A", fixedValue);
+        fm = g2.getFontMetrics();
+        g2.drawString(title, (getWidth() - fm.stringWidth(title)) / 2, 30);
+
+        g2.setFont(GameFonts.SMALL);
+        String legend = "Blue: stable  Green: period 2  Pink: 3  Cyan: 4  Purple: longer  Red-Yellow: chaos  Gray: extinct"
+            + (missing > 0 ? "  (computing " + missing + " tiles...)" : "");
+        g2.drawString(legend, 10, getHeight() - 10);
+    }
+}
@@ -0,0 +1,164 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.stream.IntStream;
+
+/**
+ * Stage-structured colony: eggs, larvae, pupae and workers, stepped once a day by a
+ * Lefkovitch projection matrix
+ *
+ *   | s_e(1-g_e)      0           0         F(W) |
+ *   | s_e g_e     s_l(1-g_l)      0           0  |
+ *   |    0          s_l g_l   s_p(1-g_p)      0  |
+ *   |    0             0        s_p g_p     s_w  |
+ *
+ * where s is daily survival and g the daily chance of moving to the next stage.
+ * Only workers count as the population x. Fecundity is density dependent and
+ * Allee scaled:
+ *
+ *   F(W) = max(0, mu_w + r (1 - W/K)(W/A - 1)) / L
+ *
+ * with mu_w the worker death rate and L the chance that an egg becomes a worker.
+ * At W = A and W = K the colony exactly replaces its dead workers, so the matrix
+ * keeps the map's equilibria. The brood stages add a lag of about four weeks, which
+ * can turn the map's damped approach to K into a sustained boom-and-bust cycle.
+ *
+ * The game's actions map onto the stages through r, K and A: laying more or fewer
+ * eggs and the breeding frenzy scale fecundity, chambers change the crowding and
+ * Allee terms, and a cull removes workers but leaves the brood.
+ *
+ * Holds an ensemble of colonies in parallel primitive arrays (one slot per colony)
+ * that is allocated once; the game uses an ensemble of one. All members share
+ * r, K and A and are stepped in parallel when there are many of them.
+ */
+public class StageStructuredColony {
+    // Stages
+    public static final int EGGS = 0;
+    public static final int LARVAE = 1;
+    public static final int PUPAE = 2;
+    public static final int WORKERS = 3;
+
+    // Daily survival and stage-transition probabilities (mean stage lengths 7, 10 and 12 days)
+    private static final double EGG_SURVIVAL = 0.97;
+    private static final double EGG_HATCH = 1.0 / 7;
+    private static final double LARVA_SURVIVAL = 0.96;
+    private static final double LARVA_PUPATE = 1.0 / 10;
+    private static final double PUPA_SURVIVAL = 0.98;
+    private static final double PUPA_ECLOSE = 1.0 / 12;
+    private static final double WORKER_MORTALITY = 0.02;
+
+    // Chance that an egg eventually becomes a worker
+    private static final double EGG_TO_WORKER =
+        reachNextStage(EGG_SURVIVAL, EGG_HATCH)
+        * reachNextStage(LARVA_SURVIVAL, LARVA_PUPATE)
+        * reachNextStage(PUPA_SURVIVAL, PUPA_ECLOSE);
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final double[] eggs;
+    private final double[] larvae;
+    private final double[] pupae;
+    private final double[] workers;
+
+    /**
+     * An ensemble of the given size with every colony empty.
+     */
+    public StageStructuredColony(int size) {
+        eggs = new double[size];
+        larvae = new double[size];
+        pupae = new double[size];
+        workers = new double[size];
+    }
+
+    /**
+     * A single colony of the given workers, with the brood a steady colony of that
+     * size would have.
+     */
+    public StageStructuredColony(double workers, double r, double K, double A) {
+        this(1);
+        seed(0, workers, r, K, A);
+    }
+
+    public int size() { return workers.length; }
+
+    /** Workers of the first colony, i.e. the game's x. */
+    public double getPopulation() { return workers[0]; }
+
+    public double getStage(int member, int stage) {
+        switch (stage) {
+            case EGGS: return eggs[member];
+            case LARVAE: return larvae[member];
+            case PUPAE: return pupae[member];
+            default: return workers[member];
+        }
+    }
+
+    /**
+     * Sets a member to the given workers with the brood at its stable distribution
+     * for today's fecundity.
+     */
+    public void seed(int member, double workerCount, double r, double K, double A) {
+        double e = fecundity(workerCount, r, K, A) * workerCount / (1 - EGG_SURVIVAL * (1 - EGG_HATCH));
+        double l = EGG_SURVIVAL * EGG_HATCH * e / (1 - LARVA_SURVIVAL * (1 - LARVA_PUPATE));
+        eggs[member] = e;
+        larvae[member] = l;
+        pupae[member] = LARVA_SURVIVAL * LARVA_PUPATE * l / (1 - PUPA_SURVIVAL * (1 - PUPA_ECLOSE));
+        workers[member] = workerCount;
+    }
+
+    // ==================== DAILY UPDATE ====================
+
+    /**
+     * Advances every colony one day. populationMultiplier is the day's event effect
+     * (e.g. 0.5 for a plague) and hits every stage before the projection.
+     */
+    public void step(double r, double K, double A, double populationMultiplier) {
+        int n = workers.length;
+        if (n < PARALLEL_THRESHOLD) {
+            stepRange(0, n, r, K, A, populationMultiplier);
+            return;
+        }
+        int chunks = (n + PARALLEL_THRESHOLD - 1) / PARALLEL_THRESHOLD;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * PARALLEL_THRESHOLD;
+            stepRange(from, Math.min(n, from + PARALLEL_THRESHOLD), r, K, A, populationMultiplier);
+        });
+    }
+
+    private void stepRange(int from, int to, double r, double K, double A, double populationMultiplier) {
+        for (int i = from; i < to; i++) {
+            double e = eggs[i] * populationMultiplier;
+            double l = larvae[i] * populationMultiplier;
+            double p = pupae[i] * populationMultiplier;
+            double w = workers[i] * populationMultiplier;
+
+            eggs[i] = EGG_SURVIVAL * (1 - EGG_HATCH) * e + fecundity(w, r, K, A) * w;
+            larvae[i] = EGG_SURVIVAL * EGG_HATCH * e + LARVA_SURVIVAL * (1 - LARVA_PUPATE) * l;
+            pupae[i] = LARVA_SURVIVAL * LARVA_PUPATE * l + PUPA_SURVIVAL * (1 - PUPA_ECLOSE) * p;
+            workers[i] = PUPA_SURVIVAL * PUPA_ECLOSE * p + (1 - WORKER_MORTALITY) * w;
+        }
+    }
+
+    /**
+     * Eggs laid per worker per day: enough to replace dead workers, plus the map's
+     * per-capita growth, divided by the chance an egg survives to become a worker.
+     */
+    static double fecundity(double w, double r, double K, double A) {
+        double growth = r * (1 - w / K) * (w / A - 1);
+        return Math.max(0, WORKER_MORTALITY + growth) / EGG_TO_WORKER;
+    }
+
+    // ==================== OTHER CHANGES ====================
+
+    /**
+     * Sets the first colony's workers to the given count and leaves the brood alone,
+     * as a cull does.
+     */
+    public void setWorkers(double count) {
+        workers[0] = Math.max(0, count);
+    }
+
+    /** Chance of leaving a stage for the next one rather than dying in it. */
+    private static double reachNextStage(double survival, double transition) {
+        return survival * transition / (1 - survival * (1 - transition));
+    }
+}
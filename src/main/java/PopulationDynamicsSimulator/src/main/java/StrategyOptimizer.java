@@ -0,0 +1,238 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Searches for good action schedules. A schedule picks one action every
+ * decisionInterval days; it is scored by replaying it against a fixed set of
+ * random event sequences (common random numbers), so every candidate faces exactly
+ * the same luck and differences in score come from the actions alone. With weather
+ * regimes on, the sequences are drawn from the weather chain, so they include the
+ * droughts and rainy seasons the game would throw at the colony.
+ *
+ * The search is evolutionary: start from every constant schedule plus random ones,
+ * keep the best, mutate them, and repeat. Candidates are evaluated in parallel.
+ */
+public class StrategyOptimizer {
+    private static final int POPULATION_SIZE = 48;
+    private static final int ELITE_SIZE = 8;
+
+    private final ColonySimulator start;
+    private final RandomEvent.Event[] events;
+    private final ColonyAction.Effects effects;
+    private final int horizon;
+    private final int decisionInterval;
+    private final int[][] scenarios;    // Event indices per scenario and day, shared by all candidates
+    private final Objective objective;
+
+    public enum Objective {
+        SURVIVAL("survival"),
+        FINAL_POPULATION("final population");
+
+        public final String label;
+
+        Objective(String label) {
+            this.label = label;
+        }
+    }
+
+    // ==================== INNER CLASS: Result ====================
+
+    /**
+     * A schedule with its fraction of surviving scenarios and mean final population
+     * (extinct runs count as 0).
+     */
+    public static class Result {
+        public final ColonyAction[] schedule;
+        public final double survival;
+        public final double meanPopulation;
+        public final int decisionInterval;
+
+        Result(ColonyAction[] schedule, double survival, double meanPopulation, int decisionInterval) {
+            this.schedule = schedule;
+            this.survival = survival;
+            this.meanPopulation = meanPopulation;
+            this.decisionInterval = decisionInterval;
+        }
+
+        /**
+         * Readable schedule with repeated actions merged, e.g. "days 1-30: Wait".
+         */
+        public String describe() {
+            StringBuilder text = new StringBuilder();
+            int from = 0;
+            for (int i = 1; i <= schedule.length; i++) {
+                if (i == schedule.length || schedule[i] != schedule[from]) {
+                    if (text.length() > 0) text.append(", ");
+                    text.append(String.format("days %d-%d: %s",
+                        from * decisionInterval + 1, i * decisionInterval, schedule[from].label));
+                    from = i;
+                }
+            }
+            return text.toString();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("survival %.1f%%, mean population %.2f | %s",
+                survival * 100, meanPopulation, describe());
+        }
+    }
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * @param start         colony state to plan from; it is copied, never modified
+     * @param pool          event distribution the scenarios are drawn from; with weather,
+     *                      every scenario starts in its current regime
+     * @param scenarioCount number of event sequences every candidate is scored on
+     */
+    public StrategyOptimizer(ColonySimulator start, RandomEvent pool, ColonyAction.Effects effects,
+                             int horizon, int decisionInterval, int scenarioCount,
+                             Objective objective, long seed) {
+        this.start = new ColonySimulator(start);
+        this.effects = effects;
+        this.horizon = horizon;
+        this.decisionInterval = decisionInterval;
+        this.objective = objective;
+
+        this.events = new RandomEvent.Event[pool.getEventCount()];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = pool.getEvent(i);
+        }
+        WeatherModel weather = pool.getWeather();
+        if (weather != null) {
+            this.scenarios = weather.generateEnsemble(scenarioCount, horizon, pool.getRegime(), seed);
+        } else {
+            EventTable table = pool.getTable();
+            this.scenarios = new int[scenarioCount][horizon];
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int[] scenario : scenarios) {
+                for (int day = 0; day < horizon; day++) {
+                    scenario[day] = table.sample(random.nextDouble());
+                }
+            }
+        }
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Runs the search for a number of generations and returns the best schedules found,
+     * best first.
+     */
+    public List<Result> optimize(int generations, int resultCount, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int length = (horizon + decisionInterval - 1) / decisionInterval;
+        ColonyAction[] actions = ColonyAction.values();
+
+        List<ColonyAction[]> candidates = new ArrayList<>();
+        for (ColonyAction action : actions) {
+            ColonyAction[] constant = new ColonyAction[length];
+            Arrays.fill(constant, action);
+            candidates.add(constant);
+        }
+        while (candidates.size() < POPULATION_SIZE) {
+            candidates.add(randomSchedule(length, random));
+        }
+
+        List<Result> best = evaluateAll(candidates);
+        for (int g = 1; g < generations; g++) {
+            List<ColonyAction[]> children = new ArrayList<>();
+            while (children.size() < POPULATION_SIZE - ELITE_SIZE) {
+                ColonyAction[] parent = best.get(random.nextInt(ELITE_SIZE)).schedule;
+                children.add(mutate(parent, random));
+            }
+            // Elites keep their scores: with common random numbers they would not change
+            List<Result> next = new ArrayList<>(best.subList(0, ELITE_SIZE));
+            next.addAll(evaluateAll(children));
+            next.sort(comparator());
+            best = next;
+        }
+        return deduplicate(best, resultCount);
+    }
+
+    /**
+     * Scores a single schedule on the shared scenarios.
+     */
+    public Result evaluate(ColonyAction[] schedule) {
+        int survivors = 0;
+        double totalPopulation = 0;
+        for (int[] scenario : scenarios) {
+            ColonySimulator sim = new ColonySimulator(start);
+            for (int day = 0; day < horizon && !sim.isExtinct(); day++) {
+                if (day % decisionInterval == 0) {
+                    sim.apply(schedule[day / decisionInterval], effects);
+                }
+                sim.step(events[scenario[day]]);
+            }
+            if (!sim.isExtinct()) {
+                survivors++;
+                totalPopulation += sim.getPopulation();
+            }
+        }
+        return new Result(schedule, (double) survivors / scenarios.length,
+            totalPopulation / scenarios.length, decisionInterval);
+    }
+
+    private List<Result> evaluateAll(List<ColonyAction[]> candidates) {
+        return candidates.parallelStream()
+            .map(this::evaluate)
+            .sorted(comparator())
+            .collect(Collectors.toList());
+    }
+
+    private Comparator<Result> comparator() {
+        Comparator<Result> bySurvival = Comparator.comparingDouble(r -> -r.survival);
+        Comparator<Result> byPopulation = Comparator.comparingDouble(r -> -r.meanPopulation);
+        return objective == Objective.SURVIVAL
+            ? bySurvival.thenComparing(byPopulation)
+            : byPopulation.thenComparing(bySurvival);
+    }
+
+    private static List<Result> deduplicate(List<Result> sorted, int count) {
+        List<Result> unique = new ArrayList<>();
+        for (Result result : sorted) {
+            boolean seen = unique.stream().anyMatch(u -> Arrays.equals(u.schedule, result.schedule));
+            if (!seen) unique.add(result);
+            if (unique.size() == count) break;
+        }
+        return unique;
+    }
+
+    // ==================== MUTATION ====================
+
+    private static ColonyAction[] randomSchedule(int length, SplittableRandom random) {
+        ColonyAction[] actions = ColonyAction.values();
+        ColonyAction[] schedule = new ColonyAction[length];
+        for (int i = 0; i < length; i++) {
+            schedule[i] = actions[random.nextInt(actions.length)];
+        }
+        return schedule;
+    }
+
+    /**
+     * Changes one to three decision points; sometimes copies a neighbour's action
+     * so runs of the same action can grow.
+     */
+    private static ColonyAction[] mutate(ColonyAction[] parent, SplittableRandom random) {
+        ColonyAction[] actions = ColonyAction.values();
+        ColonyAction[] child = parent.clone();
+        int changes = 1 + random.nextInt(3);
+        for (int c = 0; c < changes; c++) {
+            int i = random.nextInt(child.length);
+            if (child.length > 1 && random.nextBoolean()) {
+                int neighbour = i == 0 ? 1 : i - 1;
+                child[i] = child[neighbour];
+            } else {
+                child[i] = actions[random.nextInt(actions.length)];
+            }
+        }
+        return child;
+    }
+}
@@ -0,0 +1,150 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Weather regimes that make events cluster: a Markov chain over regimes (fair
+ * weather, rainy season, drought, cold spell) where each regime tilts the event
+ * weights. An event with growth multiplier m_r and capacity multiplier m_K gets
+ * weight w * m_r^growthTilt * m_K^capacityTilt, so a drought makes the food-scarce
+ * events several times likelier and heavy rain rarer, for as long as it lasts. Each
+ * regime also scales all events that change anything by its eventfulness, so quiet
+ * fair weather alternates with eventful seasons.
+ *
+ * A regime lasts meanDays on average (geometrically distributed). Fair weather
+ * gives way to the other regimes in proportion to their onset weights, and every
+ * other regime ends in fair weather. Both the regime transitions and the per-regime
+ * event distributions are alias tables built once, so a day costs two O(1) draws.
+ */
+public class WeatherModel {
+    private final EventTable table;
+    private final AliasTable[] transitions;     // Next regime, per current regime
+    private final AliasTable[] eventSamplers;   // Event index, per regime
+    private final double[][] eventProbabilities;  // Per regime, for samplers of their own
+
+    public enum Regime {
+        FAIR("☀️ Fair weather", "☀️ The weather has settled. Fair days ahead.", 0, 0, 0.8, 40, 0),
+        RAINY("🌧️ Rainy season", "🌧️ The rainy season has begun! Food will be plentiful.", 4, 2, 1.5, 20, 0.5),
+        DROUGHT("🏜️ Drought", "🏜️ A drought has set in! Food is getting scarce.", -6, -2, 2.0, 15, 0.3),
+        COLD("❄️ Cold spell", "❄️ A cold spell has arrived! Workers are slowing down.", -4, 0, 1.5, 10, 0.2);
+
+        public final String label;
+        public final String announcement;
+        public final double growthTilt;
+        public final double capacityTilt;
+        public final double eventfulness;   // Scales the weight of every event that changes something
+        public final double meanDays;
+        final double onsetWeight;           // Share of departures from fair weather that lead here
+
+        Regime(String label, String announcement, double growthTilt, double capacityTilt,
+               double eventfulness, double meanDays, double onsetWeight) {
+            this.label = label;
+            this.announcement = announcement;
+            this.growthTilt = growthTilt;
+            this.capacityTilt = capacityTilt;
+            this.eventfulness = eventfulness;
+            this.meanDays = meanDays;
+            this.onsetWeight = onsetWeight;
+        }
+    }
+
+    private static final Regime[] REGIMES = Regime.values();
+
+    public WeatherModel(EventTable table) {
+        this.table = table;
+        int regimes = REGIMES.length;
+        this.transitions = new AliasTable[regimes];
+        this.eventSamplers = new AliasTable[regimes];
+        this.eventProbabilities = new double[regimes][];
+
+        for (Regime from : REGIMES) {
+            double[] row = new double[regimes];
+            double leave = 1 / from.meanDays;
+            row[from.ordinal()] = 1 - leave;
+            if (from == Regime.FAIR) {
+                for (Regime to : REGIMES) {
+                    if (to != Regime.FAIR) row[to.ordinal()] = leave * to.onsetWeight;
+                }
+            } else {
+                row[Regime.FAIR.ordinal()] = leave;
+            }
+            transitions[from.ordinal()] = new AliasTable(row);
+
+            double[] weights = new double[table.size()];
+            double total = 0;
+            for (int e = 0; e < weights.length; e++) {
+                weights[e] = table.getWeight(e)
+                    * Math.pow(table.getRMultiplier(e), from.growthTilt)
+                    * Math.pow(table.getKMultiplier(e), from.capacityTilt);
+                if (!isNeutral(table, e)) weights[e] *= from.eventfulness;
+                total += weights[e];
+            }
+            eventSamplers[from.ordinal()] = new AliasTable(weights);
+            for (int e = 0; e < weights.length; e++) {
+                weights[e] /= total;
+            }
+            eventProbabilities[from.ordinal()] = weights;
+        }
+    }
+
+    private static boolean isNeutral(EventTable table, int e) {
+        return table.getRMultiplier(e) == 1 && table.getKMultiplier(e) == 1
+            && table.getAMultiplier(e) == 1 && table.getPopulationMultiplier(e) == 1;
+    }
+
+    public EventTable getTable() { return table; }
+
+    // ==================== SAMPLING ====================
+
+    /**
+     * Tomorrow's regime, given u uniform in [0, 1).
+     */
+    public Regime nextRegime(Regime current, double u) {
+        return REGIMES[transitions[current.ordinal()].sample(u)];
+    }
+
+    /**
+     * Index of an event drawn under a regime, given u uniform in [0, 1).
+     */
+    public int sampleEvent(Regime regime, double u) {
+        return eventSamplers[regime.ordinal()].sample(u);
+    }
+
+    /**
+     * Probability of each event under a regime; a new array on every call.
+     */
+    public double[] getEventProbabilities(Regime regime) {
+        return eventProbabilities[regime.ordinal()].clone();
+    }
+
+    // ==================== BULK GENERATION ====================
+
+    /**
+     * Generates days of weather and events starting the day after start: regimes[d]
+     * is the regime on day d and events[d] the event drawn under it. Either array
+     * may be null if not wanted. Returns the regime on the last day.
+     */
+    public Regime generate(Regime start, int days, SplittableRandom random, Regime[] regimes, int[] events) {
+        int current = start.ordinal();
+        for (int d = 0; d < days; d++) {
+            current = transitions[current].sample(random.nextDouble());
+            int event = eventSamplers[current].sample(random.nextDouble());
+            if (regimes != null) regimes[d] = REGIMES[current];
+            if (events != null) events[d] = event;
+        }
+        return REGIMES[current];
+    }
+
+    /**
+     * Event sequences for an ensemble of runs, all starting from the same regime,
+     * generated in parallel. Run i uses its own stream derived from seed, so the
+     * result does not depend on the thread count.
+     */
+    public int[][] generateEnsemble(int runs, int days, Regime start, long seed) {
+        int[][] events = new int[runs][days];
+        IntStream.range(0, runs).parallel().forEach(run ->
+            generate(start, days, new SplittableRandom(seed + run), null, events[run]));
+        return events;
+    }
+}
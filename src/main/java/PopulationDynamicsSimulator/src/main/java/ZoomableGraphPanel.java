@@ -7,6 +7,7 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.RenderingHints;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.JPanel;
@@ -20,6 +21,7 @@ public class ZoomableGraphPanel extends JPanel {
     private Color plotColor;
     private List<AntColonyGame.Point2D> data;
     private boolean markFirstPoint;
+    private List<GraphPanel.Marker> markers = new ArrayList<>();
     private double zoomLevel = 1.0;
     private double panX = 0, panY = 0;
     private Point lastMousePos;
@@ -234,6 +236,15 @@ public class ZoomableGraphPanel extends JPanel {
             g2.fillRect(x, y, 1, 1);
         }
         
+        g2.setFont(GameFonts.SMALL);
+        for (GraphPanel.Marker marker : markers) {
+            if (marker.x < minX || marker.x > maxX) continue;
+            int x = title.contains("Bifurcation")
+                ? getDisplayX(marker.x, minX, maxX, margin, plotWidth)
+                : margin + (int) ((marker.x - minX) / (maxX - minX) * plotWidth);
+            marker.draw(g2, x, margin, height - margin);
+        }
+        
         if (markFirstPoint && !data.isEmpty()) {
             AntColonyGame.Point2D p = data.get(0);
             int x;
@@ -252,6 +263,11 @@ public class ZoomableGraphPanel extends JPanel {
         }
     }
     
+    public void setMarkers(List<GraphPanel.Marker> markers) {
+        this.markers = markers;
+        repaint();
+    }
+    
     // Setters for scaling parameters
     public void setUseNonLinearScaling(boolean use) {
         this.useNonLinearScaling = use;
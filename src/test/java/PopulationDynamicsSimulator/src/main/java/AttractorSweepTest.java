@@ -0,0 +1,167 @@
+package PopulationDynamicsSimulator.src.main.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the detector-based sweeps against the fixed-length sweeps they replaced,
+ * for a few (K, A) pairs and for r just below the first period doubling, where a
+ * slowly converging fixed point is easily mistaken for a 2-cycle.
+ */
+class AttractorSweepTest {
+    private static final double[][] K_A_PAIRS = { {25, 1}, {50, 5}, {100, 2} };
+    private static final int WARMUP = 500;
+    private static final int SAMPLES = 500;
+    private static final int BIFURCATION_SAMPLES = 100;
+    private static final double LYAPUNOV_TOLERANCE = 0.02;
+
+    // ==================== DETECTOR ====================
+
+    @Test
+    void convergingFixedPointIsNotACycle() {
+        AttractorDetector detector = new AttractorDetector(16, 1e-9);
+        for (double[] pair : K_A_PAIRS) {
+            double K = pair[0], A = pair[1];
+            double edge = FixedPointAnalysis.periodDoublingR(K, A);
+            for (double fraction : new double[] {0.5, 0.9, 0.95, 0.97, 0.99}) {
+                double r = edge * fraction;
+                int type = detector.detect(K / 2, r, K, A, WARMUP, 1e-10, K * 10);
+                String where = String.format("K=%s A=%s r=%.5f", K, A, r);
+                assertNotEquals(AttractorDetector.CYCLE, type, where);
+                if (type == AttractorDetector.FIXED_POINT) {
+                    assertEquals(K, detector.getCyclePoint(0), 1e-6 * K, where);
+                }
+            }
+        }
+    }
+
+    @Test
+    void periodDoublingIsStillFound() {
+        AttractorDetector detector = new AttractorDetector(16, 1e-9);
+        for (double[] pair : K_A_PAIRS) {
+            double K = pair[0], A = pair[1];
+            double r = FixedPointAnalysis.periodDoublingR(K, A) * 1.1;
+            int type = detector.detect(K / 2, r, K, A, 2000, 1e-10, K * 10);
+            String where = String.format("K=%s A=%s r=%.5f", K, A, r);
+            assertEquals(AttractorDetector.CYCLE, type, where);
+            assertEquals(2, detector.getPeriod(), where);
+        }
+    }
+
+    // ==================== LYAPUNOV SWEEP ====================
+
+    @Test
+    void lyapunovSweepMatchesFixedSweep() {
+        for (double[] pair : K_A_PAIRS) {
+            double K = pair[0], A = pair[1];
+            AttractorDetector detector = new AttractorDetector(16, 1e-9);
+            List<Double> rValues = new ArrayList<>();
+            for (double r = 0.01; r <= 3.0; r += 0.02) {
+                rValues.add(r);
+            }
+            rValues.add(FixedPointAnalysis.periodDoublingR(K, A) * 0.99);
+
+            for (double r : rValues) {
+                double fixed = fixedLyapunov(r, K, A);
+                double detected = AntColonyGame.lyapunovExponent(detector, r, K, A, WARMUP, SAMPLES);
+                if (fixed > 0) {
+                    // Chaos: both sample the same orbit, only the sign is meaningful at this length
+                    assertTrue(detected > 0, String.format("K=%s A=%s r=%.5f: %f vs %f", K, A, r, detected, fixed));
+                } else {
+                    assertEquals(fixed, detected, LYAPUNOV_TOLERANCE, String.format("K=%s A=%s r=%.5f", K, A, r));
+                }
+            }
+        }
+    }
+
+    /**
+     * The original sweep: 500 warmup iterations from K/2, then the mean of ln|f'(x)|
+     * over 500 more, clamped to [1e-10, 10 K].
+     */
+    private static double fixedLyapunov(double r, double K, double A) {
+        double x = K / 2;
+        for (int i = 0; i < WARMUP; i++) {
+            x = clamp(AntColonyGame.populationModel(x, r, K, A), 1e-10, K * 10);
+        }
+        double lyapunov = 0;
+        int validSamples = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            double derivative = AntColonyGame.populationModelDerivative(x, r, K, A);
+            if (Math.abs(derivative) > 1e-15) {
+                lyapunov += Math.log(Math.abs(derivative));
+                validSamples++;
+            }
+            x = clamp(AntColonyGame.populationModel(x, r, K, A), 1e-10, K * 10);
+        }
+        return validSamples > 0 ? lyapunov / validSamples : 0;
+    }
+
+    // ==================== BIFURCATION SWEEP ====================
+
+    @Test
+    void bifurcationSweepMatchesFixedSweep() {
+        for (double[] pair : K_A_PAIRS) {
+            double K = pair[0], A = pair[1];
+            double tolerance = 0.005 * K;
+            Map<Double, List<Double>> adaptive = new TreeMap<>();
+            for (AntColonyGame.Point2D point : new AdaptiveBifurcationSweep(K, A).run()) {
+                adaptive.computeIfAbsent(point.x, r -> new ArrayList<>()).add(point.y);
+            }
+
+            for (Map.Entry<Double, List<Double>> entry : adaptive.entrySet()) {
+                double r = entry.getKey();
+                List<Double> points = entry.getValue();
+                double[] fixed = fixedBifurcation(r, K, A);
+                String where = String.format("K=%s A=%s r=%.5f", K, A, r);
+                for (double y : points) {
+                    assertTrue(distance(y, fixed) <= tolerance, where + ": " + y + " is not on the fixed sweep's attractor");
+                }
+                for (double y : fixed) {
+                    assertTrue(distance(y, points) <= tolerance, where + ": " + y + " is missing from the adaptive sweep");
+                }
+            }
+        }
+    }
+
+    /**
+     * The original sweep at one r: 500 warmup iterations from 50, then 100 samples.
+     */
+    private static double[] fixedBifurcation(double r, double K, double A) {
+        double x = 50;
+        for (int i = 0; i < WARMUP; i++) {
+            x = Math.max(0, AntColonyGame.populationModel(x, r, K, A));
+        }
+        double[] points = new double[BIFURCATION_SAMPLES];
+        for (int i = 0; i < points.length; i++) {
+            x = Math.max(0, AntColonyGame.populationModel(x, r, K, A));
+            points[i] = x;
+        }
+        return points;
+    }
+
+    // ==================== HELPERS ====================
+
+    private static double clamp(double x, double lower, double upper) {
+        return x < lower ? lower : x > upper ? upper : x;
+    }
+
+    private static double distance(double y, double[] points) {
+        double best = Double.POSITIVE_INFINITY;
+        for (double p : points) best = Math.min(best, Math.abs(y - p));
+        return best;
+    }
+
+    private static double distance(double y, List<Double> points) {
+        double best = Double.POSITIVE_INFINITY;
+        for (double p : points) best = Math.min(best, Math.abs(y - p));
+        return best;
+    }
+}